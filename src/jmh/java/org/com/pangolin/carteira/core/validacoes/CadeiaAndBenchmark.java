@@ -0,0 +1,74 @@
+package org.com.pangolin.carteira.core.validacoes;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cadeias de {@code and} com 2, 4 e 8 regras de string, para valores válidos e inválidos, nos
+ * modos completo, primeira falha e adaptativo.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CadeiaAndBenchmark {
+
+    @Param({"2", "4", "8"})
+    private int regras;
+
+    @Param({"WALLET-000123", "x"})
+    private String valor;
+
+    private Validator<String> completo;
+    private Validator<String> primeiraFalha;
+    private Validator<String> adaptativo;
+
+    @Setup
+    public void montar() {
+        List<Validator<String>> disponiveis = List.of(
+                Validacoes.NAO_NULO_NEM_VAZIO,
+                Validacoes.<String>val_tam_min(3),
+                Validacoes.val_regex("[A-Z0-9-]+"),
+                Validacoes.val_regex("WALLET.*"),
+                Validator.of(s -> s.indexOf(' ') < 0, "Não pode conter espaços"),
+                Validacoes.val_regex(".*[0-9].*"),
+                Validacoes.naoContidoEm(ConjuntoReferencia.de(List.of("WALLET-000000", "WALLET-999999")), null),
+                Validacoes.val_str_nao_vazia());
+        Validator<String> cadeia = disponiveis.getFirst();
+        for (int i = 1; i < regras; i++) {
+            cadeia = cadeia.and(disponiveis.get(i));
+        }
+        completo = cadeia;
+        primeiraFalha = cadeia.compilar().comModo(ModoAvaliacao.PRIMEIRA_FALHA);
+        adaptativo = cadeia.compilar().adaptativo();
+    }
+
+    @Benchmark
+    public List<ErrosValidacao> completo() {
+        return completo.validar(valor);
+    }
+
+    @Benchmark
+    public List<ErrosValidacao> primeiraFalha() {
+        return primeiraFalha.validar(valor);
+    }
+
+    @Benchmark
+    public List<ErrosValidacao> adaptativo() {
+        return adaptativo.validar(valor);
+    }
+}
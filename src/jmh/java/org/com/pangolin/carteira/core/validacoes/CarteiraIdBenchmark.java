@@ -0,0 +1,49 @@
+package org.com.pangolin.carteira.core.validacoes;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara o validador de id da carteira de passada única com a cadeia de seis validadores.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CarteiraIdBenchmark {
+
+    @Param({"WALLET-000123", "WALLET-ABCDEFGHIJ", "CARTEIRA"})
+    private String id;
+
+    private final Validator<String> fundido = Validacoes.carteiraId(Validator.CODE_PADRAO);
+    private final Validator<String> encadeado = Validacoes.carteiraIdEncadeado(Validator.CODE_PADRAO);
+
+    @Benchmark
+    public List<ErrosValidacao> fundido() {
+        return fundido.validar(id);
+    }
+
+    @Benchmark
+    public List<ErrosValidacao> encadeado() {
+        return encadeado.validar(id);
+    }
+
+    /** Regra original do último validador da cadeia, antes de ser trocada por um laço. */
+    @Benchmark
+    public boolean regexOriginal() {
+        return id.matches(".*[0-9].*");
+    }
+}
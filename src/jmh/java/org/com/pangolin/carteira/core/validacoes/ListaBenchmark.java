@@ -0,0 +1,87 @@
+package org.com.pangolin.carteira.core.validacoes;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Validadores de lista de 10 a 1M elementos: regras separadas compostas com {@code and}, o
+ * {@link PlanoLista} de passagem única, o fluxo sobre {@code Iterator} e as varreduras paralelas.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ListaBenchmark {
+
+    private static final BigDecimal MINIMO = new BigDecimal("-1");
+    private static final BigDecimal MAXIMO = new BigDecimal("10");
+
+    @Param({"10", "1000", "100000", "1000000"})
+    private int tamanho;
+
+    private List<BigDecimal> valores;
+
+    private final Validator<List<BigDecimal>> separadas = Validacoes.<BigDecimal>val_lista_tam_min(1)
+            .and(Validacoes.val_lista_sem_nulos())
+            .and(Validacoes.val_lista_ordenada(true))
+            .and(Validacoes.val_lista_max_maior_que(MAXIMO))
+            .and(Validacoes.val_lista_intervalo_extremos(MINIMO, MAXIMO));
+
+    private final PlanoLista<BigDecimal> fundida = Validacoes.<BigDecimal>val_lista_fundida()
+            .comTamanhoMinimo(1)
+            .semNulos()
+            .ordenada(true)
+            .comMaximoMaiorQue(MAXIMO)
+            .comIntervaloExtremos(MINIMO, MAXIMO)
+            .construir();
+
+    private final Validator<List<BigDecimal>> semNulosSequencial = Validacoes.val_lista_sem_nulos();
+    private final Validator<List<BigDecimal>> semNulosParalelo =
+            Validacoes.val_lista_sem_nulos(ConfiguracaoParalela.PADRAO);
+
+    @Setup
+    public void montar() {
+        valores = IntStream.range(0, tamanho).mapToObj(BigDecimal::valueOf).toList();
+    }
+
+    @Benchmark
+    public List<ErrosValidacao> separadas() {
+        return separadas.validar(valores);
+    }
+
+    @Benchmark
+    public List<ErrosValidacao> fundida() {
+        return fundida.validar(valores);
+    }
+
+    @Benchmark
+    public List<ErrosValidacao> fundidaFluxo() {
+        return fundida.validarFluxo(valores.iterator());
+    }
+
+    @Benchmark
+    public List<ErrosValidacao> semNulosSequencial() {
+        return semNulosSequencial.validar(valores);
+    }
+
+    @Benchmark
+    public List<ErrosValidacao> semNulosParalelo() {
+        return semNulosParalelo.validar(valores);
+    }
+}
@@ -0,0 +1,71 @@
+package org.com.pangolin.carteira.core.validacoes;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dobras com {@link ResultadoValidacao#combinar} e as consultas {@code erroPorCodigo} e
+ * {@code toSimpleErrorMap}, em resultados recém-combinados (índices ainda não montados) e
+ * repetidas sobre o mesmo resultado.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResultadoValidacaoBenchmark {
+
+    @Param({"10", "1000"})
+    private int campos;
+
+    private List<ResultadoValidacao> parciais;
+    private ResultadoValidacao combinado;
+
+    @Setup
+    public void montar() {
+        parciais = new ArrayList<>(campos);
+        for (int i = 0; i < campos; i++) {
+            parciais.add(ResultadoValidacao.invalidar("campo" + i, "COD" + (i % 7), "Mensagem " + i));
+        }
+        combinado = combinar();
+    }
+
+    @Benchmark
+    public ResultadoValidacao combinar() {
+        ResultadoValidacao resultado = ResultadoValidacao.validar();
+        for (ResultadoValidacao parcial : parciais) {
+            resultado = resultado.combinar(parcial);
+        }
+        return resultado;
+    }
+
+    @Benchmark
+    public Map<String, List<ErrosValidacao>> combinarEConsultarPorCodigo() {
+        return combinar().erroPorCodigo();
+    }
+
+    @Benchmark
+    public Map<String, List<ErrosValidacao>> erroPorCodigoRepetido() {
+        return combinado.erroPorCodigo();
+    }
+
+    @Benchmark
+    public Map<String, String> toSimpleErrorMapRepetido() {
+        return combinado.toSimpleErrorMap();
+    }
+}
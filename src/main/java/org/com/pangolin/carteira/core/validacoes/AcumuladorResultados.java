@@ -0,0 +1,175 @@
+package org.com.pangolin.carteira.core.validacoes;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Acumulador de erros para campos validados em paralelo, selado num único
+ * {@link ResultadoValidacao}.
+ *
+ * <p>Cada tarefa publica os erros do seu campo com {@link #publicar(String, List)} sem trava:
+ * os erros de cada campo ficam numa pilha encadeada atualizada por CAS, e nada é combinado até
+ * {@link #selar()}, que monta o registro do resultado uma única vez. A ordem dos campos no
+ * resultado não depende da ordem em que as tarefas terminam: primeiro os campos declarados em
+ * {@link #comCampos(String...)}, na ordem da declaração; depois os demais, em ordem
+ * alfabética. Os erros de um mesmo campo ficam na ordem de publicação, que só é determinística
+ * quando o campo é validado por uma única tarefa.</p>
+ *
+ * <p>{@link #selar()} deve ser chamado depois que todas as tarefas terminarem (por exemplo,
+ * após o {@code join} delas); publicações posteriores são rejeitadas.</p>
+ *
+ * <p><b>Exemplo:</b></p>
+ * <pre>{@code
+ * AcumuladorResultados acumulador = AcumuladorResultados.comCampos("NOME", "EMAIL");
+ * CompletableFuture.allOf(
+ *         CompletableFuture.runAsync(() -> acumulador.validar("NOME", nome, regraNome)),
+ *         CompletableFuture.runAsync(() -> acumulador.validar("EMAIL", email, regraEmail)))
+ *     .join();
+ * ResultadoValidacao resultado = acumulador.selar();
+ * }</pre>
+ */
+public final class AcumuladorResultados {
+
+    private final String[] campos;
+    private final Map<String, Integer> posicoes;
+    private final AtomicReferenceArray<No> declarados;
+    private final ConcurrentSkipListMap<String, AtomicReference<No>> avulsos = new ConcurrentSkipListMap<>();
+    private volatile boolean selado;
+
+    /** Publicação de um campo; a pilha guarda a mais recente no topo. */
+    private record No(List<ErrosValidacao> erros, No anterior) {}
+
+    private AcumuladorResultados(String[] campos) {
+        this.campos = campos;
+        this.posicoes = new HashMap<>();
+        for (int i = 0; i < campos.length; i++) {
+            validarCampo(campos[i]);
+            if (posicoes.putIfAbsent(campos[i], i) != null) {
+                throw new IllegalArgumentException("Campo declarado mais de uma vez: " + campos[i]);
+            }
+        }
+        this.declarados = new AtomicReferenceArray<>(campos.length);
+    }
+
+    /**
+     * Acumulador sem campos declarados: o resultado lista os campos em ordem alfabética.
+     */
+    public static AcumuladorResultados criar() {
+        return new AcumuladorResultados(new String[0]);
+    }
+
+    /**
+     * Acumulador em que os campos declarados aparecem no resultado na ordem dada.
+     */
+    public static AcumuladorResultados comCampos(String... campos) {
+        Objects.requireNonNull(campos, "Campos não podem ser nulos");
+        return new AcumuladorResultados(campos.clone());
+    }
+
+    /**
+     * Publica os erros de um campo; uma lista vazia não altera o acumulador. Pode ser chamado
+     * de qualquer thread.
+     *
+     * @throws IllegalStateException se o acumulador já foi selado
+     */
+    public AcumuladorResultados publicar(String campo, List<ErrosValidacao> erros) {
+        Objects.requireNonNull(erros, "Erros não podem ser nulos");
+        validarCampo(campo);
+        verificarAberto();
+        if (erros.isEmpty()) {
+            return this;
+        }
+        List<ErrosValidacao> copia = List.copyOf(erros);
+        Integer posicao = posicoes.get(campo);
+        if (posicao != null) {
+            No topo;
+            do {
+                topo = declarados.get(posicao);
+            } while (!declarados.compareAndSet(posicao, topo, new No(copia, topo)));
+        } else {
+            AtomicReference<No> pilha = avulsos.get(campo);
+            if (pilha == null) {
+                AtomicReference<No> nova = new AtomicReference<>();
+                pilha = avulsos.putIfAbsent(campo, nova);
+                if (pilha == null) {
+                    pilha = nova;
+                }
+            }
+            No topo;
+            do {
+                topo = pilha.get();
+            } while (!pilha.compareAndSet(topo, new No(copia, topo)));
+        }
+        MetricasValidacao.registrarCampoInvalido(campo);
+        return this;
+    }
+
+    /**
+     * Publica todos os erros de um resultado já pronto, campo a campo.
+     */
+    public AcumuladorResultados publicar(ResultadoValidacao resultado) {
+        Objects.requireNonNull(resultado, "Resultado não pode ser nulo");
+        resultado.erros().forEach(this::publicar);
+        return this;
+    }
+
+    /**
+     * Valida o valor e publica os erros sob o campo.
+     */
+    public <T> AcumuladorResultados validar(String campo, T valor, Validator<T> validador) {
+        Objects.requireNonNull(validador, "Validador não pode ser nulo");
+        return publicar(campo, validador.validar(valor));
+    }
+
+    /**
+     * Encerra as publicações e monta o resultado; {@link ResultadoValidacao#VALIDO} se nenhum
+     * erro foi publicado. Chamadas seguintes devolvem um resultado equivalente.
+     */
+    public ResultadoValidacao selar() {
+        selado = true;
+        RegistroErros registro = RegistroErros.VAZIO;
+        for (int i = 0; i < campos.length; i++) {
+            registro = anexar(registro, campos[i], declarados.get(i));
+        }
+        for (Map.Entry<String, AtomicReference<No>> avulso : avulsos.entrySet()) {
+            registro = anexar(registro, avulso.getKey(), avulso.getValue().get());
+        }
+        return ResultadoValidacao.deRegistro(registro);
+    }
+
+    public boolean selado() {
+        return selado;
+    }
+
+    /**
+     * Anexa as publicações do campo na ordem em que foram feitas (a pilha está invertida).
+     */
+    private static RegistroErros anexar(RegistroErros registro, String campo, No topo) {
+        List<List<ErrosValidacao>> publicacoes = new ArrayList<>();
+        for (No no = topo; no != null; no = no.anterior) {
+            publicacoes.add(no.erros);
+        }
+        for (int i = publicacoes.size() - 1; i >= 0; i--) {
+            registro = registro.adicionar(campo, publicacoes.get(i));
+        }
+        return registro;
+    }
+
+    private void verificarAberto() {
+        if (selado) {
+            throw new IllegalStateException("Acumulador de resultados já foi selado");
+        }
+    }
+
+    private static void validarCampo(String campo) {
+        if (campo == null || campo.isBlank()) {
+            throw new IllegalArgumentException("Campo não pode ser vazio ou em branco");
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package org.com.pangolin.carteira.core.validacoes;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Cache canônico dos validadores criados pelas fábricas parametrizadas de {@link Validacoes}
+ * e {@link ValidacoesPrimitivas}.
+ *
+ * <p>A chave é o nome da fábrica junto com os seus argumentos: chamadas idênticas devolvem a
+ * mesma instância, que é imutável e, quando composta, já é um {@link ValidadorCompilado}.
+ * Só entram no cache argumentos de tipos de valor imutáveis ({@link String}, números,
+ * {@link LocalDate}, booleanos, caracteres e enums); com qualquer outro argumento o validador é
+ * criado normalmente. Acima de {@link #LIMITE} entradas, novos validadores deixam de ser
+ * guardados, como em {@link CatalogoErros}.</p>
+ */
+public final class CacheValidadores {
+
+    static final int LIMITE = 1_024;
+
+    private static final ConcurrentHashMap<Chave, Object> CACHE = new ConcurrentHashMap<>();
+    private static final LongAdder ACERTOS = new LongAdder();
+    private static final LongAdder FALHAS = new LongAdder();
+
+    private CacheValidadores() {}
+
+    /**
+     * Contadores do cache desde o início da aplicação.
+     *
+     * @param acertos Chamadas atendidas por um validador já existente
+     * @param falhas Chamadas que criaram um validador
+     * @param tamanho Validadores guardados
+     */
+    public record Estatisticas(long acertos, long falhas, int tamanho) {}
+
+    public static Estatisticas estatisticas() {
+        return new Estatisticas(ACERTOS.sum(), FALHAS.sum(), CACHE.size());
+    }
+
+    /**
+     * Devolve o validador da fábrica para os argumentos, criando-o com {@code criar} se preciso.
+     */
+    @SuppressWarnings("unchecked")
+    static <V> V obter(String fabrica, Supplier<V> criar, Object... argumentos) {
+        if (!cacheavel(argumentos)) {
+            return criar.get();
+        }
+        Chave chave = new Chave(fabrica, Arrays.asList(argumentos));
+        Object existente = CACHE.get(chave);
+        if (existente != null) {
+            ACERTOS.increment();
+            return (V) existente;
+        }
+        FALHAS.increment();
+        V novo = criar.get();
+        if (CACHE.size() >= LIMITE) {
+            return novo;
+        }
+        existente = CACHE.putIfAbsent(chave, novo);
+        return existente != null ? (V) existente : novo;
+    }
+
+    private static boolean cacheavel(Object[] argumentos) {
+        for (Object argumento : argumentos) {
+            if (!(argumento instanceof String
+                    || argumento instanceof Integer || argumento instanceof Long
+                    || argumento instanceof Short || argumento instanceof Byte
+                    || argumento instanceof Double || argumento instanceof Float
+                    || argumento instanceof BigDecimal || argumento instanceof BigInteger
+                    || argumento instanceof LocalDate || argumento instanceof Boolean
+                    || argumento instanceof Character || argumento instanceof Enum<?>)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private record Chave(String fabrica, List<Object> argumentos) {}
+}
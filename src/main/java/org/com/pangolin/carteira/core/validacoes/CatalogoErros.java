@@ -0,0 +1,71 @@
+package org.com.pangolin.carteira.core.validacoes;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Catálogo de instâncias canônicas de {@link ErrosValidacao}.
+ *
+ * <p>Erros produzidos por regras ({@link Validator#of}) têm código e mensagem fixos, definidos
+ * quando o validador é criado. O catálogo valida esses dados uma única vez e devolve sempre a
+ * mesma instância para o mesmo trio (código, mensagem, fatal), junto com a lista unitária
+ * imutável que a regra devolve ao falhar. Produzir um erro conhecido passa a ser apenas
+ * devolver uma referência.</p>
+ *
+ * <p>O catálogo é limitado: acima de {@link #LIMITE} entradas, novos erros continuam sendo
+ * criados normalmente, mas não são mais guardados.</p>
+ */
+public final class CatalogoErros {
+
+    static final int LIMITE = 4_096;
+
+    /** Chave: o próprio erro, para mensagens prontas, ou {@link ChaveTemplate}. */
+    private static final ConcurrentHashMap<Object, List<ErrosValidacao>> CATALOGO =
+            new ConcurrentHashMap<>();
+
+    private CatalogoErros() {}
+
+    /**
+     * Devolve a instância canônica do erro.
+     *
+     * @throws NullPointerException se código ou mensagem forem nulos
+     */
+    public static ErrosValidacao obter(String codigo, String menssagem, boolean deveLancarExcecao) {
+        return comoLista(codigo, menssagem, deveLancarExcecao).getFirst();
+    }
+
+    /**
+     * Devolve a lista imutável contendo apenas a instância canônica do erro, pronta para ser
+     * devolvida por {@link Validator#validar(Object)}.
+     *
+     * @throws NullPointerException se código ou mensagem forem nulos
+     */
+    static List<ErrosValidacao> comoLista(String codigo, String menssagem, boolean deveLancarExcecao) {
+        ErrosValidacao erro = new ErrosValidacao(codigo, menssagem, deveLancarExcecao);
+        return internar(erro, erro);
+    }
+
+    /**
+     * Como {@link #comoLista(String, String, boolean)}, para mensagens com template. A chave usa
+     * o padrão e os argumentos do template, então a mensagem não é renderizada.
+     */
+    static List<ErrosValidacao> comoLista(String codigo, MensagemTemplate template, boolean deveLancarExcecao) {
+        ErrosValidacao erro = ErrosValidacao.comTemplate(codigo, template, deveLancarExcecao);
+        return internar(new ChaveTemplate(codigo, template, deveLancarExcecao), erro);
+    }
+
+    private static List<ErrosValidacao> internar(Object chave, ErrosValidacao erro) {
+        List<ErrosValidacao> existente = CATALOGO.get(chave);
+        if (existente != null) {
+            return existente;
+        }
+        List<ErrosValidacao> lista = List.of(erro);
+        if (CATALOGO.size() >= LIMITE) {
+            return lista;
+        }
+        existente = CATALOGO.putIfAbsent(chave, lista);
+        return existente != null ? existente : lista;
+    }
+
+    private record ChaveTemplate(String codigo, MensagemTemplate template, boolean deveLancarExcecao) {}
+}
@@ -0,0 +1,31 @@
+package org.com.pangolin.carteira.core.validacoes;
+
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Configuração dos validadores de lista em modo paralelo.
+ *
+ * <p>Listas com menos de {@code limiar} elementos, ou que não tenham acesso aleatório, são
+ * percorridas sequencialmente na thread chamadora. As maiores são divididas ao meio no
+ * {@code pool} até que cada parte tenha no máximo {@code limiar} elementos.</p>
+ *
+ * @param limiar Tamanho a partir do qual a lista é dividida; também o tamanho máximo de cada parte
+ * @param pool Pool onde as partes são executadas
+ */
+public record ConfiguracaoParalela(int limiar, ForkJoinPool pool) {
+
+    /** Limiar de 8192 elementos no pool comum. */
+    public static final ConfiguracaoParalela PADRAO = new ConfiguracaoParalela(8_192, ForkJoinPool.commonPool());
+
+    public ConfiguracaoParalela {
+        if (limiar < 1) {
+            throw new IllegalArgumentException("O limiar deve ser maior que zero");
+        }
+        Objects.requireNonNull(pool, "Pool não pode ser nulo");
+    }
+
+    public static ConfiguracaoParalela comLimiar(int limiar) {
+        return new ConfiguracaoParalela(limiar, ForkJoinPool.commonPool());
+    }
+}
@@ -0,0 +1,167 @@
+package org.com.pangolin.carteira.core.validacoes;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Conjunto de referência indexado para validadores de pertinência, como listas de contratos
+ * bloqueados ou de carteiras revogadas.
+ *
+ * <p>{@link Validacoes#naoContidoEm(Collection, String)} chama {@code contains} na coleção
+ * recebida, o que numa {@link java.util.List} é uma varredura linear a cada validação. Aqui a
+ * coleção é indexada uma única vez num {@link HashSet}. A partir de {@link #LIMIAR_FILTRO_BLOOM}
+ * elementos, o índice ganha também um filtro de Bloom: a maioria das consultas é de valores
+ * ausentes, que o filtro, pequeno o bastante para ficar em cache, descarta sem tocar no
+ * conjunto; só os prováveis presentes são confirmados no {@link HashSet}. O resultado é sempre
+ * exato.</p>
+ *
+ * <p>{@link #atualizar(Collection)} monta o índice de um novo retrato da coleção fora de
+ * qualquer trava e o publica numa escrita volátil: as validações em andamento nunca esperam e
+ * enxergam sempre um retrato completo, o antigo ou o novo.</p>
+ *
+ * @param <T> Tipo dos elementos
+ */
+public final class ConjuntoReferencia<T> {
+
+    /** Tamanho a partir do qual {@link #de(Collection)} usa o filtro de Bloom. */
+    public static final int LIMIAR_FILTRO_BLOOM = 100_000;
+
+    /** Taxa de falsos positivos do filtro usada por {@link #de(Collection)}. */
+    public static final double TAXA_FALSO_POSITIVO_PADRAO = 0.01;
+
+    private final double taxaFalsoPositivo;
+    private final boolean filtroAutomatico;
+    private volatile Indice atual;
+
+    private ConjuntoReferencia(Collection<? extends T> elementos, double taxaFalsoPositivo, boolean filtroAutomatico) {
+        this.taxaFalsoPositivo = taxaFalsoPositivo;
+        this.filtroAutomatico = filtroAutomatico;
+        this.atual = indexar(elementos);
+    }
+
+    /**
+     * Indexa a coleção; o filtro de Bloom é usado a partir de {@link #LIMIAR_FILTRO_BLOOM}
+     * elementos, inclusive nas atualizações.
+     */
+    public static <T> ConjuntoReferencia<T> de(Collection<? extends T> elementos) {
+        return new ConjuntoReferencia<>(elementos, TAXA_FALSO_POSITIVO_PADRAO, true);
+    }
+
+    /**
+     * Indexa a coleção sempre com filtro de Bloom, dimensionado para a taxa de falsos positivos.
+     *
+     * @param taxaFalsoPositivo Entre 0 e 1 (exclusivos); afeta só o desempenho, não o resultado
+     */
+    public static <T> ConjuntoReferencia<T> comFiltroBloom(Collection<? extends T> elementos,
+                                                           double taxaFalsoPositivo) {
+        if (!(taxaFalsoPositivo > 0 && taxaFalsoPositivo < 1)) {
+            throw new IllegalArgumentException("A taxa de falsos positivos deve estar entre 0 e 1");
+        }
+        return new ConjuntoReferencia<>(elementos, taxaFalsoPositivo, false);
+    }
+
+    private Indice indexar(Collection<? extends T> elementos) {
+        Objects.requireNonNull(elementos, "Coleção não pode ser nula");
+        Set<Object> conjunto = new HashSet<>(elementos);
+        boolean comFiltro = !filtroAutomatico || conjunto.size() >= LIMIAR_FILTRO_BLOOM;
+        return new Indice(conjunto, comFiltro ? FiltroBloom.de(conjunto, taxaFalsoPositivo) : null);
+    }
+
+    /**
+     * Substitui o conteúdo por um novo retrato da coleção sem bloquear as consultas.
+     */
+    public void atualizar(Collection<? extends T> elementos) {
+        atual = indexar(elementos);
+    }
+
+    public boolean contem(Object elemento) {
+        return atual.contem(elemento);
+    }
+
+    public int tamanho() {
+        return atual.conjunto.size();
+    }
+
+    /**
+     * Se o retrato atual usa filtro de Bloom.
+     */
+    public boolean usaFiltroBloom() {
+        return atual.filtro != null;
+    }
+
+    /** Retrato imutável da coleção. */
+    private record Indice(Set<Object> conjunto, FiltroBloom filtro) {
+        boolean contem(Object elemento) {
+            if (filtro != null && !filtro.talvezContenha(elemento)) {
+                return false;
+            }
+            return conjunto.contains(elemento);
+        }
+    }
+
+    /**
+     * Filtro de Bloom sobre {@link Object#hashCode()}, coerente com o {@link HashSet} que ele
+     * antecede. As {@code k} posições saem de dois hashes derivados do {@code hashCode}
+     * (hash duplo de Kirsch–Mitzenmacher).
+     */
+    private static final class FiltroBloom {
+        private final long[] bits;
+        private final int quantidadeBits;
+        private final int funcoes;
+
+        private FiltroBloom(int quantidadeBits, int funcoes) {
+            this.bits = new long[(quantidadeBits + 63) >>> 6];
+            this.quantidadeBits = quantidadeBits;
+            this.funcoes = funcoes;
+        }
+
+        static FiltroBloom de(Set<Object> elementos, double taxaFalsoPositivo) {
+            int n = Math.max(1, elementos.size());
+            double ln2 = Math.log(2);
+            long m = (long) Math.ceil(-n * Math.log(taxaFalsoPositivo) / (ln2 * ln2));
+            int quantidadeBits = (int) Math.max(64, Math.min(m, Integer.MAX_VALUE - 63));
+            int funcoes = Math.max(1, (int) Math.round((double) quantidadeBits / n * ln2));
+            FiltroBloom filtro = new FiltroBloom(quantidadeBits, funcoes);
+            for (Object elemento : elementos) {
+                filtro.adicionar(elemento);
+            }
+            return filtro;
+        }
+
+        private void adicionar(Object elemento) {
+            long hash = misturar(Objects.hashCode(elemento));
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 0; i < funcoes; i++) {
+                int posicao = ((h1 + i * h2) & Integer.MAX_VALUE) % quantidadeBits;
+                bits[posicao >>> 6] |= 1L << posicao;
+            }
+        }
+
+        boolean talvezContenha(Object elemento) {
+            long hash = misturar(Objects.hashCode(elemento));
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 0; i < funcoes; i++) {
+                int posicao = ((h1 + i * h2) & Integer.MAX_VALUE) % quantidadeBits;
+                if ((bits[posicao >>> 6] & (1L << posicao)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /** Finalizador do MurmurHash3 de 64 bits, para espalhar hashCodes sequenciais. */
+        private static long misturar(int hashCode) {
+            long h = hashCode * 0x9E3779B97F4A7C15L;
+            h ^= h >>> 33;
+            h *= 0xFF51AFD7ED558CCDL;
+            h ^= h >>> 33;
+            h *= 0xC4CEB93FE1A85A53L;
+            h ^= h >>> 33;
+            return h;
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package org.com.pangolin.carteira.core.validacoes;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Acumulador de erros de uma validação em andamento, confinado à thread que o abriu.
+ *
+ * <p>Substitui acumuladores compartilhados: cada chamada abre o seu contexto com
+ * {@link #abrir()}, registra os erros por campo e lê o {@link ResultadoValidacao} ao final.
+ * Cada abertura cria um contexto novo, empilhado na thread atual até ser fechado, de modo que
+ * validações em threads diferentes nunca enxergam os erros umas das outras e contextos podem ser
+ * aninhados. Um contexto fechado lança {@link IllegalStateException} em qualquer uso posterior.</p>
+ *
+ * <p>Os erros são acumulados com {@link ResultadoValidacao#combinar(ResultadoValidacao)}, que
+ * estende o registro persistente sem copiá-lo. O resultado lido continua válido depois que o
+ * contexto é fechado.</p>
+ *
+ * <p><b>Exemplo:</b></p>
+ * <pre>{@code
+ * try (ContextoValidacao contexto = ContextoValidacao.abrir()) {
+ *     contexto.adicionar("PARCELAS", errosParcelas)
+ *             .adicionar("NUMERO_DO_CONTRATO", errosContrato);
+ *     return contexto.resultado();
+ * }
+ * }</pre>
+ */
+public final class ContextoValidacao implements AutoCloseable {
+
+    private static final ThreadLocal<Pilha> PILHA = ThreadLocal.withInitial(Pilha::new);
+
+    private final Pilha pilha;
+    private final int nivel;
+    private ResultadoValidacao resultado = ResultadoValidacao.VALIDO;
+    private boolean aberto = true;
+
+    private ContextoValidacao(Pilha pilha, int nivel) {
+        this.pilha = pilha;
+        this.nivel = nivel;
+    }
+
+    /**
+     * Contextos abertos numa thread, do mais externo ao mais interno.
+     */
+    private static final class Pilha {
+        private final Thread dono = Thread.currentThread();
+        private ContextoValidacao[] abertos = new ContextoValidacao[4];
+        private int profundidade;
+
+        ContextoValidacao abrir() {
+            int nivel = profundidade;
+            if (nivel == abertos.length) {
+                abertos = Arrays.copyOf(abertos, nivel * 2);
+            }
+            ContextoValidacao contexto = new ContextoValidacao(this, nivel);
+            abertos[nivel] = contexto;
+            profundidade = nivel + 1;
+            return contexto;
+        }
+
+        ContextoValidacao atual() {
+            return profundidade == 0 ? null : abertos[profundidade - 1];
+        }
+    }
+
+    /**
+     * Abre um contexto vazio na thread atual; deve ser fechado na mesma thread, de preferência
+     * com try-with-resources.
+     */
+    public static ContextoValidacao abrir() {
+        return PILHA.get().abrir();
+    }
+
+    /**
+     * Se há algum contexto aberto na thread atual.
+     */
+    public static boolean existeAberto() {
+        return PILHA.get().profundidade > 0;
+    }
+
+    /**
+     * Registra os erros no contexto mais interno aberto na thread atual, se houver.
+     *
+     * @return {@code false} quando não há contexto aberto
+     */
+    static boolean registrarNoAtual(String campo, List<ErrosValidacao> erros) {
+        ContextoValidacao atual = PILHA.get().atual();
+        if (atual == null) {
+            return false;
+        }
+        atual.adicionar(campo, erros);
+        return true;
+    }
+
+    /**
+     * Registra os erros de um campo; uma lista vazia não altera o contexto.
+     *
+     * @throws IllegalArgumentException se os erros forem nulos ou o campo for nulo ou vazio
+     * @throws IllegalStateException se o contexto estiver fechado ou for usado fora da sua thread
+     */
+    public ContextoValidacao adicionar(String campo, List<ErrosValidacao> erros) {
+        verificarUso();
+        if (erros == null) {
+            throw new IllegalArgumentException("A validação não pode ser nula.");
+        }
+        if (campo == null || campo.isEmpty()) {
+            throw new IllegalArgumentException("O campo não pode ser nulo ou vazio.");
+        }
+        if (!erros.isEmpty()) {
+            resultado = resultado.combinar(ResultadoValidacao.invalidar(campo, erros));
+        }
+        return this;
+    }
+
+    /**
+     * Combina um resultado já pronto com os erros do contexto.
+     */
+    public ContextoValidacao adicionar(ResultadoValidacao outro) {
+        verificarUso();
+        Objects.requireNonNull(outro, "Resultado não pode ser nulo");
+        resultado = resultado.combinar(outro);
+        return this;
+    }
+
+    /**
+     * Resultado acumulado até aqui; {@link ResultadoValidacao#VALIDO} enquanto não houver erros.
+     */
+    public ResultadoValidacao resultado() {
+        verificarUso();
+        return resultado;
+    }
+
+    public boolean valido() {
+        return resultado().valido();
+    }
+
+    /**
+     * Fecha o contexto e o retira da pilha da thread; fechar de novo não tem efeito.
+     *
+     * @throws IllegalStateException se houver um contexto mais interno ainda aberto
+     */
+    @Override
+    public void close() {
+        if (!aberto) {
+            return;
+        }
+        verificarUso();
+        if (pilha.profundidade != nivel + 1) {
+            throw new IllegalStateException("Os contextos de validação devem ser fechados na ordem inversa da abertura");
+        }
+        aberto = false;
+        pilha.abertos[nivel] = null;
+        pilha.profundidade = nivel;
+    }
+
+    private void verificarUso() {
+        if (!aberto) {
+            throw new IllegalStateException("Contexto de validação já foi fechado");
+        }
+        if (Thread.currentThread() != pilha.dono) {
+            throw new IllegalStateException("Contexto de validação usado fora da thread que o abriu");
+        }
+    }
+}
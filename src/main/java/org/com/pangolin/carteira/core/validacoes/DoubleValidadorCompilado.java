@@ -0,0 +1,81 @@
+package org.com.pangolin.carteira.core.validacoes;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Plano achatado de {@link DoubleValidator}, equivalente a {@link ValidadorCompilado} para
+ * valores {@code double}. Os pontos de verificação ficam em {@link PlanoPrimitivo}.
+ */
+public final class DoubleValidadorCompilado implements DoubleValidator {
+
+    private final DoubleValidator[] regras;
+    private final PlanoPrimitivo plano;
+
+    private DoubleValidadorCompilado(DoubleValidator[] regras, PlanoPrimitivo plano) {
+        this.regras = regras;
+        this.plano = plano;
+    }
+
+    public static DoubleValidadorCompilado compilar(DoubleValidator validador) {
+        Objects.requireNonNull(validador, "Validador não pode ser nulo");
+        if (validador instanceof DoubleValidadorCompilado compilado) {
+            return compilado;
+        }
+        return new DoubleValidadorCompilado(new DoubleValidator[]{validador}, PlanoPrimitivo.FOLHA);
+    }
+
+    public static DoubleValidadorCompilado conjuncao(DoubleValidator esquerdo, DoubleValidator direito) {
+        DoubleValidadorCompilado parteEsquerda = compilar(esquerdo);
+        DoubleValidadorCompilado parteDireita = compilar(direito);
+        DoubleValidator[] regras = Arrays.copyOf(parteEsquerda.regras,
+                parteEsquerda.regras.length + parteDireita.regras.length);
+        System.arraycopy(parteDireita.regras, 0, regras, parteEsquerda.regras.length, parteDireita.regras.length);
+        return new DoubleValidadorCompilado(regras, PlanoPrimitivo.conjuncao(parteEsquerda.plano, parteDireita.plano));
+    }
+
+    public int quantidadeRegras() {
+        return regras.length;
+    }
+
+    @Override
+    public DoubleValidadorCompilado compilar() {
+        return this;
+    }
+
+    @Override
+    public List<ErrosValidacao> validar(double valor) {
+        return executar(valor, true);
+    }
+
+    /**
+     * Valida o lote sem lançar exceção para erros fatais: a avaliação do item para onde
+     * {@link #validar(double)} lançaria, e o erro fatal fica entre os erros do item.
+     */
+    @Override
+    public ResultadoLote validarLote(double[] valores) {
+        ResultadoLote.Acumulador acumulador = new ResultadoLote.Acumulador();
+        for (int i = 0; i < valores.length; i++) {
+            List<ErrosValidacao> erros = executar(valores[i], false);
+            if (!erros.isEmpty()) {
+                acumulador.registrar(i, erros);
+            }
+        }
+        return acumulador.concluir(valores.length);
+    }
+
+    private List<ErrosValidacao> executar(double valor, boolean lancar) {
+        PlanoPrimitivo.Estado estado = null;
+        for (int i = 0; i < regras.length; i++) {
+            List<ErrosValidacao> resultado = regras[i].validar(valor);
+            if (!resultado.isEmpty()) {
+                estado = PlanoPrimitivo.registrar(estado, i, resultado);
+            }
+            if (plano.interromper(estado, i, lancar)) {
+                break;
+            }
+        }
+        return PlanoPrimitivo.erros(estado);
+    }
+}
@@ -1,24 +1,79 @@
 package org.com.pangolin.carteira.core.validacoes;
 
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Erro de validação. Para códigos e mensagens fixos prefira {@link CatalogoErros#obter},
+ * que reaproveita uma instância canônica.
+ *
+ * <p>A mensagem pode ser um texto pronto ou um {@link MensagemTemplate}, renderizado apenas
+ * quando {@link #menssagem()} for chamado. Igualdade, hash e {@link #toString()} consideram
+ * sempre o texto renderizado, de modo que um erro com template é igual a um erro com a mesma
+ * mensagem pronta. O template guarda o último texto renderizado, então comparar erros não o
+ * formata de novo.</p>
+ *
+ * <p>Crie erros com o construtor de três argumentos ou com {@link #comTemplate}; o construtor
+ * canônico e o componente {@code template} existem apenas porque um record não tem campos
+ * privados fora dos componentes.</p>
+ *
+ * @param menssagem Texto da mensagem; o acessor {@link #menssagem()} sempre devolve o texto,
+ *                  mesmo quando o erro foi criado com template
+ * @param template Template da mensagem, ou {@code null} para mensagens prontas; detalhe de
+ *                 implementação, use {@link #menssagem()} para ler o texto
+ */
 public record ErrosValidacao(String codigo, String menssagem,
-                             boolean deveLancarExcecao)implements RecordValidado {
+                             boolean deveLancarExcecao, MensagemTemplate template)implements RecordValidado {
     public ErrosValidacao {
+        Objects.requireNonNull(codigo, "Código do erro não pode ser nulo");
+        if ((menssagem == null) == (template == null)) {
+            throw new IllegalArgumentException("Informe a mensagem ou o template, e apenas um deles");
+        }
+    }
 
-        Validacoes.NAO_NULO_NEM_VAZIO.validar(codigo);
-        Validacoes.NAO_NULO_NEM_VAZIO.validar(menssagem);
+    public ErrosValidacao(String codigo, String menssagem, boolean deveLancarExcecao) {
+        this(codigo, Objects.requireNonNull(menssagem, "Mensagem do erro não pode ser nula"),
+                deveLancarExcecao, null);
     }
+
     public  static Record criar(String codigo, String menssagem, boolean deveLancarExcecao){
         return new ErrosValidacao(codigo,menssagem,deveLancarExcecao);
     }
 
+    public static ErrosValidacao comTemplate(String codigo, MensagemTemplate template, boolean deveLancarExcecao) {
+        return new ErrosValidacao(codigo, null, deveLancarExcecao,
+                Objects.requireNonNull(template, "Template da mensagem não pode ser nulo"));
+    }
+
+    @Override
+    public String menssagem() {
+        return template == null ? menssagem : template.renderizar();
+    }
+
+    public String menssagem(Locale locale) {
+        return template == null ? menssagem : template.renderizar(locale);
+    }
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ErrosValidacao outro)) return false;
+        return deveLancarExcecao == outro.deveLancarExcecao
+                && codigo.equals(outro.codigo)
+                && menssagem().equals(outro.menssagem());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(codigo, menssagem(), deveLancarExcecao);
+    }
 
     @Override
     public String toString() {
         return "ErrosValidacao{" +
 
                 "codigo='" + codigo + '\'' +
-                ", mensagem='" + menssagem + '\'' +
+                ", mensagem='" + menssagem() + '\'' +
                 '}';
     }
 }
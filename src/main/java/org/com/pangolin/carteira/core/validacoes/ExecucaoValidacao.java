@@ -0,0 +1,61 @@
+package org.com.pangolin.carteira.core.validacoes;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Resultado detalhado da execução de um {@link ValidadorCompilado}.
+ *
+ * <p>Além dos erros encontrados, informa quantas regras foram efetivamente avaliadas e
+ * quantas foram ignoradas por interrupção antecipada ({@link ModoAvaliacao}) ou por
+ * {@link Validator#andThenIfValid(Validator)}. Quando a avaliação encontra um erro que
+ * {@link Validator#validar(Object)} lançaria como exceção, ele é devolvido em
+ * {@link #erroFatal()} em vez de ser lançado.</p>
+ *
+ * @param erros Erros acumulados até o fim (ou a interrupção) da avaliação
+ * @param erroFatal Erro que provocaria {@link Validator.ValidacaoException}, ou {@code null}
+ * @param regrasAvaliadas Quantidade de regras executadas
+ * @param regrasIgnoradas Quantidade de regras não executadas
+ */
+public record ExecucaoValidacao(List<ErrosValidacao> erros,
+                                ErrosValidacao erroFatal,
+                                int regrasAvaliadas,
+                                int regrasIgnoradas) {
+
+    public ExecucaoValidacao {
+        Objects.requireNonNull(erros, "Erros não podem ser nulos");
+    }
+
+    /**
+     * @return {@code true} se nenhuma regra produziu erro
+     */
+    public boolean valido() {
+        return erros.isEmpty() && erroFatal == null;
+    }
+
+    public Optional<ErrosValidacao> fatal() {
+        return Optional.ofNullable(erroFatal);
+    }
+
+    /**
+     * @return o erro fatal no lado esquerdo ou os erros acumulados no lado direito, como em
+     *         {@link Validator#validarOuErro(Object)}
+     */
+    public ResultadoOuErro<ErrosValidacao, List<ErrosValidacao>> comoResultadoOuErro() {
+        return erroFatal != null ? ResultadoOuErro.esquerdo(erroFatal) : ResultadoOuErro.direito(erros);
+    }
+
+    /**
+     * Lança a mesma exceção que {@link Validator#validar(Object)} lançaria, se houver erro fatal.
+     *
+     * @return os erros acumulados, quando não há erro fatal
+     * @throws Validator.ValidacaoException se houver erro fatal
+     */
+    public List<ErrosValidacao> lancarSeFatal() {
+        if (erroFatal != null) {
+            throw Validator.ValidacaoException.deErroFatal(erroFatal);
+        }
+        return erros;
+    }
+}
@@ -0,0 +1,81 @@
+package org.com.pangolin.carteira.core.validacoes;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Plano achatado de {@link IntValidator}, equivalente a {@link ValidadorCompilado} para
+ * valores {@code int}. Os pontos de verificação ficam em {@link PlanoPrimitivo}.
+ */
+public final class IntValidadorCompilado implements IntValidator {
+
+    private final IntValidator[] regras;
+    private final PlanoPrimitivo plano;
+
+    private IntValidadorCompilado(IntValidator[] regras, PlanoPrimitivo plano) {
+        this.regras = regras;
+        this.plano = plano;
+    }
+
+    public static IntValidadorCompilado compilar(IntValidator validador) {
+        Objects.requireNonNull(validador, "Validador não pode ser nulo");
+        if (validador instanceof IntValidadorCompilado compilado) {
+            return compilado;
+        }
+        return new IntValidadorCompilado(new IntValidator[]{validador}, PlanoPrimitivo.FOLHA);
+    }
+
+    public static IntValidadorCompilado conjuncao(IntValidator esquerdo, IntValidator direito) {
+        IntValidadorCompilado parteEsquerda = compilar(esquerdo);
+        IntValidadorCompilado parteDireita = compilar(direito);
+        IntValidator[] regras = Arrays.copyOf(parteEsquerda.regras,
+                parteEsquerda.regras.length + parteDireita.regras.length);
+        System.arraycopy(parteDireita.regras, 0, regras, parteEsquerda.regras.length, parteDireita.regras.length);
+        return new IntValidadorCompilado(regras, PlanoPrimitivo.conjuncao(parteEsquerda.plano, parteDireita.plano));
+    }
+
+    public int quantidadeRegras() {
+        return regras.length;
+    }
+
+    @Override
+    public IntValidadorCompilado compilar() {
+        return this;
+    }
+
+    @Override
+    public List<ErrosValidacao> validar(int valor) {
+        return executar(valor, true);
+    }
+
+    /**
+     * Valida o lote sem lançar exceção para erros fatais: a avaliação do item para onde
+     * {@link #validar(int)} lançaria, e o erro fatal fica entre os erros do item.
+     */
+    @Override
+    public ResultadoLote validarLote(int[] valores) {
+        ResultadoLote.Acumulador acumulador = new ResultadoLote.Acumulador();
+        for (int i = 0; i < valores.length; i++) {
+            List<ErrosValidacao> erros = executar(valores[i], false);
+            if (!erros.isEmpty()) {
+                acumulador.registrar(i, erros);
+            }
+        }
+        return acumulador.concluir(valores.length);
+    }
+
+    private List<ErrosValidacao> executar(int valor, boolean lancar) {
+        PlanoPrimitivo.Estado estado = null;
+        for (int i = 0; i < regras.length; i++) {
+            List<ErrosValidacao> resultado = regras[i].validar(valor);
+            if (!resultado.isEmpty()) {
+                estado = PlanoPrimitivo.registrar(estado, i, resultado);
+            }
+            if (plano.interromper(estado, i, lancar)) {
+                break;
+            }
+        }
+        return PlanoPrimitivo.erros(estado);
+    }
+}
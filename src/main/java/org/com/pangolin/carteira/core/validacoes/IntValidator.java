@@ -0,0 +1,92 @@
+package org.com.pangolin.carteira.core.validacoes;
+
+import java.util.List;
+import java.util.function.IntPredicate;
+
+/**
+ * Validador especializado para valores {@code int}, sem boxing.
+ *
+ * <p>Tem a mesma API de composição de {@link Validator}: {@link #and(IntValidator)} achata as
+ * regras num {@link IntValidadorCompilado} com a mesma semântica de exceção, e {@link #of}
+ * resolve o erro uma única vez pelo {@link CatalogoErros}. {@link #comoValidator()} e
+ * {@link #de(Validator)} convertem de e para o validador genérico.</p>
+ */
+@FunctionalInterface
+public interface IntValidator {
+
+    List<ErrosValidacao> validar(int valor) throws Validator.ValidacaoException;
+
+    /**
+     * Combina com outro validador (AND lógico), como {@link Validator#and(Validator)}.
+     */
+    default IntValidator and(IntValidator outro) {
+        return IntValidadorCompilado.conjuncao(this, outro);
+    }
+
+    default IntValidadorCompilado compilar() {
+        return IntValidadorCompilado.compilar(this);
+    }
+
+    /**
+     * Adapta para o validador genérico; o valor é desembrulhado antes da validação.
+     */
+    default Validator<Integer> comoValidator() {
+        return valor -> validar(valor);
+    }
+
+    /**
+     * Índice do primeiro valor que produz erro, ou {@code -1} se todos forem válidos.
+     * Percorre o array diretamente, sem criar objetos para os valores válidos.
+     */
+    default int primeiroInvalido(int[] valores) {
+        for (int i = 0; i < valores.length; i++) {
+            if (!validar(valores[i]).isEmpty()) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Valida todos os valores do array, guardando erros apenas para os que falharem.
+     */
+    default ResultadoLote validarLote(int[] valores) {
+        ResultadoLote.Acumulador acumulador = new ResultadoLote.Acumulador();
+        for (int i = 0; i < valores.length; i++) {
+            List<ErrosValidacao> erros = validar(valores[i]);
+            if (!erros.isEmpty()) {
+                acumulador.registrar(i, erros);
+            }
+        }
+        return acumulador.concluir(valores.length);
+    }
+
+    /**
+     * Adapta um validador genérico; cada valor é embrulhado antes da validação.
+     */
+    static IntValidator de(Validator<? super Integer> validador) {
+        return valor -> validador.validar(valor);
+    }
+
+    static IntValidator of(IntPredicate predicado, String codigoErro, String mensagemErro, boolean lancarExcecao) {
+        List<ErrosValidacao> falha = CatalogoErros.comoLista(codigoErro, mensagemErro, lancarExcecao);
+        return valor -> predicado.test(valor) ? List.of() : falha;
+    }
+
+    static IntValidator of(IntPredicate predicado, String codigoErro, MensagemTemplate mensagemErro, boolean lancarExcecao) {
+        List<ErrosValidacao> falha = CatalogoErros.comoLista(codigoErro, mensagemErro, lancarExcecao);
+        return valor -> predicado.test(valor) ? List.of() : falha;
+    }
+
+    static IntValidator of(IntPredicate predicado, String codigoErro, String mensagemErro) {
+        return of(predicado, codigoErro, mensagemErro, false);
+    }
+
+    static IntValidator of(IntPredicate predicado, String mensagemErro) {
+        return of(predicado, Validator.CODE_PADRAO, mensagemErro, false);
+    }
+
+    static IntValidator of(IntPredicate predicado, MensagemTemplate mensagemErro) {
+        return of(predicado, Validator.CODE_PADRAO, mensagemErro, false);
+    }
+}
@@ -0,0 +1,81 @@
+package org.com.pangolin.carteira.core.validacoes;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Plano achatado de {@link LongValidator}, equivalente a {@link ValidadorCompilado} para
+ * valores {@code long}. Os pontos de verificação ficam em {@link PlanoPrimitivo}.
+ */
+public final class LongValidadorCompilado implements LongValidator {
+
+    private final LongValidator[] regras;
+    private final PlanoPrimitivo plano;
+
+    private LongValidadorCompilado(LongValidator[] regras, PlanoPrimitivo plano) {
+        this.regras = regras;
+        this.plano = plano;
+    }
+
+    public static LongValidadorCompilado compilar(LongValidator validador) {
+        Objects.requireNonNull(validador, "Validador não pode ser nulo");
+        if (validador instanceof LongValidadorCompilado compilado) {
+            return compilado;
+        }
+        return new LongValidadorCompilado(new LongValidator[]{validador}, PlanoPrimitivo.FOLHA);
+    }
+
+    public static LongValidadorCompilado conjuncao(LongValidator esquerdo, LongValidator direito) {
+        LongValidadorCompilado parteEsquerda = compilar(esquerdo);
+        LongValidadorCompilado parteDireita = compilar(direito);
+        LongValidator[] regras = Arrays.copyOf(parteEsquerda.regras,
+                parteEsquerda.regras.length + parteDireita.regras.length);
+        System.arraycopy(parteDireita.regras, 0, regras, parteEsquerda.regras.length, parteDireita.regras.length);
+        return new LongValidadorCompilado(regras, PlanoPrimitivo.conjuncao(parteEsquerda.plano, parteDireita.plano));
+    }
+
+    public int quantidadeRegras() {
+        return regras.length;
+    }
+
+    @Override
+    public LongValidadorCompilado compilar() {
+        return this;
+    }
+
+    @Override
+    public List<ErrosValidacao> validar(long valor) {
+        return executar(valor, true);
+    }
+
+    /**
+     * Valida o lote sem lançar exceção para erros fatais: a avaliação do item para onde
+     * {@link #validar(long)} lançaria, e o erro fatal fica entre os erros do item.
+     */
+    @Override
+    public ResultadoLote validarLote(long[] valores) {
+        ResultadoLote.Acumulador acumulador = new ResultadoLote.Acumulador();
+        for (int i = 0; i < valores.length; i++) {
+            List<ErrosValidacao> erros = executar(valores[i], false);
+            if (!erros.isEmpty()) {
+                acumulador.registrar(i, erros);
+            }
+        }
+        return acumulador.concluir(valores.length);
+    }
+
+    private List<ErrosValidacao> executar(long valor, boolean lancar) {
+        PlanoPrimitivo.Estado estado = null;
+        for (int i = 0; i < regras.length; i++) {
+            List<ErrosValidacao> resultado = regras[i].validar(valor);
+            if (!resultado.isEmpty()) {
+                estado = PlanoPrimitivo.registrar(estado, i, resultado);
+            }
+            if (plano.interromper(estado, i, lancar)) {
+                break;
+            }
+        }
+        return PlanoPrimitivo.erros(estado);
+    }
+}
@@ -0,0 +1,92 @@
+package org.com.pangolin.carteira.core.validacoes;
+
+import java.util.List;
+import java.util.function.LongPredicate;
+
+/**
+ * Validador especializado para valores {@code long}, sem boxing.
+ *
+ * <p>Tem a mesma API de composição de {@link Validator}: {@link #and(LongValidator)} achata as
+ * regras num {@link LongValidadorCompilado} com a mesma semântica de exceção, e {@link #of}
+ * resolve o erro uma única vez pelo {@link CatalogoErros}. {@link #comoValidator()} e
+ * {@link #de(Validator)} convertem de e para o validador genérico.</p>
+ */
+@FunctionalInterface
+public interface LongValidator {
+
+    List<ErrosValidacao> validar(long valor) throws Validator.ValidacaoException;
+
+    /**
+     * Combina com outro validador (AND lógico), como {@link Validator#and(Validator)}.
+     */
+    default LongValidator and(LongValidator outro) {
+        return LongValidadorCompilado.conjuncao(this, outro);
+    }
+
+    default LongValidadorCompilado compilar() {
+        return LongValidadorCompilado.compilar(this);
+    }
+
+    /**
+     * Adapta para o validador genérico; o valor é desembrulhado antes da validação.
+     */
+    default Validator<Long> comoValidator() {
+        return valor -> validar(valor);
+    }
+
+    /**
+     * Índice do primeiro valor que produz erro, ou {@code -1} se todos forem válidos.
+     * Percorre o array diretamente, sem criar objetos para os valores válidos.
+     */
+    default int primeiroInvalido(long[] valores) {
+        for (int i = 0; i < valores.length; i++) {
+            if (!validar(valores[i]).isEmpty()) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Valida todos os valores do array, guardando erros apenas para os que falharem.
+     */
+    default ResultadoLote validarLote(long[] valores) {
+        ResultadoLote.Acumulador acumulador = new ResultadoLote.Acumulador();
+        for (int i = 0; i < valores.length; i++) {
+            List<ErrosValidacao> erros = validar(valores[i]);
+            if (!erros.isEmpty()) {
+                acumulador.registrar(i, erros);
+            }
+        }
+        return acumulador.concluir(valores.length);
+    }
+
+    /**
+     * Adapta um validador genérico; cada valor é embrulhado antes da validação.
+     */
+    static LongValidator de(Validator<? super Long> validador) {
+        return valor -> validador.validar(valor);
+    }
+
+    static LongValidator of(LongPredicate predicado, String codigoErro, String mensagemErro, boolean lancarExcecao) {
+        List<ErrosValidacao> falha = CatalogoErros.comoLista(codigoErro, mensagemErro, lancarExcecao);
+        return valor -> predicado.test(valor) ? List.of() : falha;
+    }
+
+    static LongValidator of(LongPredicate predicado, String codigoErro, MensagemTemplate mensagemErro, boolean lancarExcecao) {
+        List<ErrosValidacao> falha = CatalogoErros.comoLista(codigoErro, mensagemErro, lancarExcecao);
+        return valor -> predicado.test(valor) ? List.of() : falha;
+    }
+
+    static LongValidator of(LongPredicate predicado, String codigoErro, String mensagemErro) {
+        return of(predicado, codigoErro, mensagemErro, false);
+    }
+
+    static LongValidator of(LongPredicate predicado, String mensagemErro) {
+        return of(predicado, Validator.CODE_PADRAO, mensagemErro, false);
+    }
+
+    static LongValidator of(LongPredicate predicado, MensagemTemplate mensagemErro) {
+        return of(predicado, Validator.CODE_PADRAO, mensagemErro, false);
+    }
+}
@@ -0,0 +1,76 @@
+package org.com.pangolin.carteira.core.validacoes;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Mensagem de erro no formato de {@link String#format(Locale, String, Object...)}, renderizada
+ * apenas quando for lida.
+ *
+ * <p>Fábricas de validadores com mensagens parametrizadas criam o template junto com o
+ * validador, sem formatar nada. O texto só é produzido na primeira leitura da mensagem
+ * ({@link ErrosValidacao#menssagem()}, {@link ResultadoValidacao#todasMensagemErro()},
+ * {@link ResultadoValidacao#mensagemFormatadas}) e fica guardado para o último {@link Locale}
+ * usado. Como os erros de um mesmo validador são a mesma instância ({@link CatalogoErros}),
+ * relatórios com muitos erros iguais formatam o texto uma única vez.</p>
+ *
+ * <p>Os argumentos são lidos no momento da renderização; use apenas valores imutáveis.</p>
+ */
+public final class MensagemTemplate {
+
+    private final String padrao;
+    private final Object[] argumentos;
+    /** Último texto renderizado, junto com o locale usado. */
+    private volatile Renderizacao ultima;
+
+    private MensagemTemplate(String padrao, Object[] argumentos) {
+        this.padrao = padrao;
+        this.argumentos = argumentos;
+    }
+
+    public static MensagemTemplate de(String padrao, Object... argumentos) {
+        Objects.requireNonNull(padrao, "Padrão da mensagem não pode ser nulo");
+        return new MensagemTemplate(padrao, argumentos.clone());
+    }
+
+    public String padrao() {
+        return padrao;
+    }
+
+    /**
+     * Renderiza no locale padrão de formatação, como {@link String#format(String, Object...)}.
+     */
+    public String renderizar() {
+        return renderizar(Locale.getDefault(Locale.Category.FORMAT));
+    }
+
+    public String renderizar(Locale locale) {
+        Renderizacao atual = ultima;
+        if (atual != null && atual.locale.equals(locale)) {
+            return atual.texto;
+        }
+        String texto = String.format(locale, padrao, argumentos);
+        ultima = new Renderizacao(locale, texto);
+        return texto;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof MensagemTemplate outro)) return false;
+        return padrao.equals(outro.padrao) && Arrays.equals(argumentos, outro.argumentos);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * padrao.hashCode() + Arrays.hashCode(argumentos);
+    }
+
+    @Override
+    public String toString() {
+        return renderizar();
+    }
+
+    private record Renderizacao(Locale locale, String texto) {}
+}
@@ -0,0 +1,281 @@
+package org.com.pangolin.carteira.core.validacoes;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Métricas por regra nomeada: invocações, falhas e histograma de latência.
+ *
+ * <p>Uma regra é instrumentada com {@link Validator#comMetricas(String)} ou
+ * {@link #instrumentar(String, Validator)}. Os contadores são {@link LongAdder}, distribuídos
+ * entre threads e sem trava. O histograma tem uma faixa por potência de dois de nanossegundos.
+ * Campos registrados com {@link #contarCampo(String)} têm as rejeições em
+ * {@link ResultadoValidacao#invalidar(String, List)} contadas sob o nome
+ * {@code campo.<nome do campo>}; os demais campos não são contados, para que nomes de campo
+ * dinâmicos não façam o registro crescer sem limite.</p>
+ *
+ * <p>A instrumentação começa desligada e pode ser ligada e desligada a qualquer momento com
+ * {@link #ativar()} e {@link #desativar()}. Desligada, uma regra instrumentada custa uma leitura
+ * volátil antes de delegar. Com {@link #comEventosJfr(Duration)}, validações que passarem do
+ * limiar também emitem o evento {@code org.com.pangolin.validacao.ValidacaoLenta} no Java Flight
+ * Recorder, quando a gravação estiver ativa.</p>
+ */
+public final class MetricasValidacao {
+
+    private static final int FAIXAS = 64;
+    private static final String PREFIXO_CAMPO = "campo.";
+    private static final ConcurrentHashMap<String, Contadores> REGRAS = new ConcurrentHashMap<>();
+
+    private static volatile boolean ativo;
+    /** Limiar dos eventos JFR em nanossegundos; {@code Long.MAX_VALUE} quando desligados. */
+    private static volatile long limiarLentoNanos = Long.MAX_VALUE;
+
+    private MetricasValidacao() {}
+
+    public static void ativar() {
+        ativo = true;
+    }
+
+    public static void desativar() {
+        ativo = false;
+    }
+
+    public static boolean ativo() {
+        return ativo;
+    }
+
+    /**
+     * Emite um evento JFR para cada validação instrumentada que levar pelo menos {@code limiar}.
+     */
+    public static void comEventosJfr(Duration limiar) {
+        Objects.requireNonNull(limiar, "Limiar não pode ser nulo");
+        limiarLentoNanos = Math.max(0, limiar.toNanos());
+    }
+
+    public static void semEventosJfr() {
+        limiarLentoNanos = Long.MAX_VALUE;
+    }
+
+    /**
+     * Envolve o validador registrando as suas execuções sob {@code nome}. Validadores com o
+     * mesmo nome compartilham os contadores.
+     */
+    public static <T> Validator<T> instrumentar(String nome, Validator<T> validador) {
+        Objects.requireNonNull(nome, "Nome não pode ser nulo");
+        Objects.requireNonNull(validador, "Validador não pode ser nulo");
+        return new ValidadorInstrumentado<>(nome, contadores(nome), validador);
+    }
+
+    private static Contadores contadores(String nome) {
+        return REGRAS.computeIfAbsent(nome, n -> new Contadores());
+    }
+
+    /**
+     * Passa a contar as rejeições do campo sob {@code campo.<nome do campo>}.
+     *
+     * @throws IllegalArgumentException se o campo for nulo ou em branco
+     */
+    public static void contarCampo(String campo) {
+        if (campo == null || campo.isBlank()) {
+            throw new IllegalArgumentException("Campo não pode ser vazio ou em branco");
+        }
+        contadores(PREFIXO_CAMPO + campo);
+    }
+
+    static void registrarCampoInvalido(String campo) {
+        if (ativo) {
+            Contadores contadores = REGRAS.get(PREFIXO_CAMPO + campo);
+            if (contadores != null) {
+                contadores.invocacoes.increment();
+                contadores.falhas.increment();
+            }
+        }
+    }
+
+    /**
+     * Retrato dos contadores de todas as regras, por nome.
+     */
+    public static Map<String, Instantaneo> instantaneo() {
+        Map<String, Instantaneo> retrato = new TreeMap<>();
+        REGRAS.forEach((nome, contadores) -> retrato.put(nome, contadores.retrato(nome)));
+        return Collections.unmodifiableMap(retrato);
+    }
+
+    /**
+     * Zera os contadores de todas as regras e campos, mantendo-os registrados.
+     */
+    public static void zerar() {
+        REGRAS.values().forEach(Contadores::zerar);
+    }
+
+    /**
+     * Contadores de uma regra num instante.
+     *
+     * @param nome Nome da regra
+     * @param invocacoes Execuções registradas
+     * @param falhas Execuções com erro ou exceção
+     * @param histograma Na faixa {@code i}, execuções com duração em [2<sup>i-1</sup>, 2<sup>i</sup>) ns;
+     *                   o retrato guarda e devolve cópias
+     */
+    public record Instantaneo(String nome, long invocacoes, long falhas, long[] histograma) {
+
+        public Instantaneo {
+            histograma = histograma.clone();
+        }
+
+        @Override
+        public long[] histograma() {
+            return histograma.clone();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Instantaneo outro
+                    && invocacoes == outro.invocacoes
+                    && falhas == outro.falhas
+                    && nome.equals(outro.nome)
+                    && Arrays.equals(histograma, outro.histograma);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(nome, invocacoes, falhas, Arrays.hashCode(histograma));
+        }
+
+        @Override
+        public String toString() {
+            return "Instantaneo[nome=" + nome + ", invocacoes=" + invocacoes + ", falhas=" + falhas
+                    + ", histograma=" + Arrays.toString(histograma) + "]";
+        }
+
+        public double taxaFalha() {
+            return invocacoes == 0 ? 0 : (double) falhas / invocacoes;
+        }
+
+        /**
+         * Limite superior, em nanossegundos, da faixa que contém o percentil.
+         *
+         * @param percentil Entre 0 e 100
+         */
+        public long percentilNanos(double percentil) {
+            long total = 0;
+            for (long quantidade : histograma) {
+                total += quantidade;
+            }
+            if (total == 0) {
+                return 0;
+            }
+            long alvo = (long) Math.ceil(total * percentil / 100);
+            long acumulado = 0;
+            for (int faixa = 0; faixa < histograma.length; faixa++) {
+                acumulado += histograma[faixa];
+                if (acumulado >= Math.max(1, alvo)) {
+                    return faixa == 0 ? 0 : 1L << Math.min(faixa, 62);
+                }
+            }
+            return Long.MAX_VALUE;
+        }
+    }
+
+    private static final class Contadores {
+        private final LongAdder invocacoes = new LongAdder();
+        private final LongAdder falhas = new LongAdder();
+        private final LongAdder[] histograma = new LongAdder[FAIXAS];
+
+        private Contadores() {
+            for (int i = 0; i < FAIXAS; i++) {
+                histograma[i] = new LongAdder();
+            }
+        }
+
+        void registrar(long nanos, boolean falhou) {
+            invocacoes.increment();
+            if (falhou) {
+                falhas.increment();
+            }
+            histograma[Math.min(FAIXAS - 1, 64 - Long.numberOfLeadingZeros(Math.max(0, nanos)))].increment();
+        }
+
+        Instantaneo retrato(String nome) {
+            long[] faixas = new long[FAIXAS];
+            for (int i = 0; i < FAIXAS; i++) {
+                faixas[i] = histograma[i].sum();
+            }
+            return new Instantaneo(nome, invocacoes.sum(), falhas.sum(), faixas);
+        }
+
+        void zerar() {
+            invocacoes.reset();
+            falhas.reset();
+            for (LongAdder faixa : histograma) {
+                faixa.reset();
+            }
+        }
+    }
+
+    private record ValidadorInstrumentado<T>(String nome, Contadores contadores, Validator<T> validador)
+            implements Validator<T> {
+
+        @Override
+        public List<ErrosValidacao> validar(T valor) {
+            if (!ativo) {
+                return validador.validar(valor);
+            }
+            long inicio = System.nanoTime();
+            boolean falhou = true;
+            try {
+                List<ErrosValidacao> erros = validador.validar(valor);
+                falhou = !erros.isEmpty();
+                return erros;
+            } finally {
+                long nanos = System.nanoTime() - inicio;
+                contadores.registrar(nanos, falhou);
+                if (nanos >= limiarLentoNanos) {
+                    emitirEvento(nome, nanos, falhou);
+                }
+            }
+        }
+    }
+
+    private static void emitirEvento(String nome, long nanos, boolean falhou) {
+        ValidacaoLenta evento = new ValidacaoLenta();
+        if (evento.isEnabled()) {
+            evento.regra = nome;
+            evento.duracao = nanos;
+            evento.falhou = falhou;
+            evento.commit();
+        }
+    }
+
+    @Name("org.com.pangolin.validacao.ValidacaoLenta")
+    @Label("Validação lenta")
+    @Category({"Pangolin", "Validação"})
+    @Description("Validação instrumentada que passou do limiar configurado em MetricasValidacao")
+    @StackTrace(false)
+    static final class ValidacaoLenta extends Event {
+        @Label("Regra")
+        String regra;
+
+        @Label("Duração")
+        @Timespan(Timespan.NANOSECONDS)
+        long duracao;
+
+        @Label("Falhou")
+        boolean falhou;
+    }
+}
@@ -0,0 +1,22 @@
+package org.com.pangolin.carteira.core.validacoes;
+
+/**
+ * Modos de avaliação de um {@link ValidadorCompilado}.
+ */
+public enum ModoAvaliacao {
+
+    /**
+     * Avalia todas as regras e acumula todos os erros (comportamento padrão de {@link Validator#and(Validator)}).
+     */
+    COMPLETO,
+
+    /**
+     * Interrompe a avaliação na primeira regra que produzir qualquer erro.
+     */
+    PRIMEIRA_FALHA,
+
+    /**
+     * Interrompe a avaliação na primeira regra que produzir um erro com {@code deveLancarExcecao = true}.
+     */
+    PRIMEIRA_FATAL
+}
@@ -0,0 +1,235 @@
+package org.com.pangolin.carteira.core.validacoes;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Predicados equivalentes a {@link String#matches(String)} para os validadores de expressão regular.
+ *
+ * <p>{@code String.matches} compila a expressão a cada chamada. Aqui cada expressão é analisada
+ * uma única vez:</p>
+ * <ul>
+ *   <li>formas simples viram laços escritos à mão, sem passar por {@code java.util.regex}:
+ *       contém dígito ({@code .*[0-9].*}, {@code .*\d.*}), prefixo literal ({@code WALLET-.*}) e
+ *       classe de caracteres repetida ({@code [A-Z0-9]+}, {@code \d{6}}, {@code [a-z_]{2,8}});</li>
+ *   <li>as demais são compiladas uma vez num {@link Pattern} guardado em cache, e cada thread
+ *       reaproveita o seu próprio {@link Matcher}.</li>
+ * </ul>
+ *
+ * <p>Diferente de {@code String.matches}, uma expressão inválida lança
+ * {@link java.util.regex.PatternSyntaxException} ao criar o predicado, não na primeira avaliação.</p>
+ */
+final class PadroesRegex {
+
+    static final int LIMITE = 256;
+
+    private static final ConcurrentHashMap<String, Pattern> PADROES = new ConcurrentHashMap<>();
+
+    private PadroesRegex() {}
+
+    /**
+     * Devolve um predicado com o mesmo resultado de {@code valor.matches(regex)}.
+     */
+    static Predicate<String> predicado(String regex) {
+        Objects.requireNonNull(regex, "Expressão regular não pode ser nula");
+        if (regex.equals(".*[0-9].*") || regex.equals(".*\\d.*")) {
+            return PadroesRegex::contemDigitoAsciiEmLinhaUnica;
+        }
+        Predicate<String> prefixo = prefixoLiteral(regex);
+        if (prefixo != null) {
+            return prefixo;
+        }
+        Predicate<String> classe = classeRepetida(regex);
+        if (classe != null) {
+            return classe;
+        }
+        return comMatcherPorThread(compilar(regex));
+    }
+
+    static Pattern compilar(String regex) {
+        Pattern existente = PADROES.get(regex);
+        if (existente != null) {
+            return existente;
+        }
+        Pattern novo = Pattern.compile(regex);
+        if (PADROES.size() >= LIMITE) {
+            return novo;
+        }
+        existente = PADROES.putIfAbsent(regex, novo);
+        return existente != null ? existente : novo;
+    }
+
+    private static Predicate<String> comMatcherPorThread(Pattern padrao) {
+        ThreadLocal<Matcher> matchers = ThreadLocal.withInitial(() -> padrao.matcher(""));
+        return valor -> {
+            Matcher matcher = matchers.get().reset(valor);
+            boolean casou = matcher.matches();
+            // Não reter a string avaliada na thread.
+            matcher.reset("");
+            return casou;
+        };
+    }
+
+    /**
+     * Equivalente a {@code s.matches(".*[0-9].*")}: o {@code .} não aceita terminadores de linha,
+     * então a string não pode contê-los e precisa ter um dígito ASCII.
+     */
+    static boolean contemDigitoAsciiEmLinhaUnica(String s) {
+        boolean digito = false;
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digito = true;
+            } else if (terminadorDeLinha(c)) {
+                return false;
+            }
+        }
+        return digito;
+    }
+
+    static boolean terminadorDeLinha(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+
+    /**
+     * Forma {@code LITERAL.*}, com o literal formado só por letras e dígitos ASCII, {@code -} e {@code _}.
+     */
+    private static Predicate<String> prefixoLiteral(String regex) {
+        if (!regex.endsWith(".*") || regex.length() == 2) {
+            return null;
+        }
+        String literal = regex.substring(0, regex.length() - 2);
+        for (int i = 0; i < literal.length(); i++) {
+            char c = literal.charAt(i);
+            if (!(alfanumericoAscii(c) || c == '-' || c == '_')) {
+                return null;
+            }
+        }
+        return valor -> {
+            if (!valor.startsWith(literal)) {
+                return false;
+            }
+            for (int i = literal.length(); i < valor.length(); i++) {
+                if (terminadorDeLinha(valor.charAt(i))) {
+                    return false;
+                }
+            }
+            return true;
+        };
+    }
+
+    /**
+     * Forma {@code [classe]Q} ou {@code \dQ}, em que a classe tem apenas caracteres e intervalos
+     * alfanuméricos ASCII, {@code -} e {@code _}, e {@code Q} é {@code +}, {@code *}, {@code {n}},
+     * {@code {n,}} ou {@code {n,m}}.
+     */
+    private static Predicate<String> classeRepetida(String regex) {
+        boolean[] aceitos = new boolean[128];
+        int fimClasse;
+        if (regex.startsWith("\\d")) {
+            for (char c = '0'; c <= '9'; c++) {
+                aceitos[c] = true;
+            }
+            fimClasse = 2;
+        } else if (regex.startsWith("[") && !regex.startsWith("[^")) {
+            int fechamento = regex.indexOf(']', 1);
+            if (fechamento <= 1 || !lerClasse(regex.substring(1, fechamento), aceitos)) {
+                return null;
+            }
+            fimClasse = fechamento + 1;
+        } else {
+            return null;
+        }
+
+        int[] limites = lerQuantificador(regex.substring(fimClasse));
+        if (limites == null) {
+            return null;
+        }
+        int minimo = limites[0];
+        int maximo = limites[1];
+        return valor -> {
+            int tamanho = valor.length();
+            if (tamanho < minimo || tamanho > maximo) {
+                return false;
+            }
+            for (int i = 0; i < tamanho; i++) {
+                char c = valor.charAt(i);
+                if (c >= 128 || !aceitos[c]) {
+                    return false;
+                }
+            }
+            return true;
+        };
+    }
+
+    private static boolean lerClasse(String conteudo, boolean[] aceitos) {
+        int i = 0;
+        while (i < conteudo.length()) {
+            char c = conteudo.charAt(i);
+            boolean intervalo = i + 2 < conteudo.length() && conteudo.charAt(i + 1) == '-';
+            if (intervalo) {
+                char fim = conteudo.charAt(i + 2);
+                if (!alfanumericoAscii(c) || !alfanumericoAscii(fim) || fim < c) {
+                    return false;
+                }
+                for (char x = c; x <= fim; x++) {
+                    aceitos[x] = true;
+                }
+                i += 3;
+            } else if (alfanumericoAscii(c) || c == '_' || (c == '-' && (i == 0 || i == conteudo.length() - 1))) {
+                aceitos[c] = true;
+                i++;
+            } else {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return {mínimo, máximo} de repetições, ou {@code null} se não for um quantificador simples
+     */
+    private static int[] lerQuantificador(String quantificador) {
+        switch (quantificador) {
+            case "+":
+                return new int[]{1, Integer.MAX_VALUE};
+            case "*":
+                return new int[]{0, Integer.MAX_VALUE};
+            default:
+                break;
+        }
+        if (quantificador.length() < 3 || quantificador.charAt(0) != '{'
+                || quantificador.charAt(quantificador.length() - 1) != '}') {
+            return null;
+        }
+        String corpo = quantificador.substring(1, quantificador.length() - 1);
+        int virgula = corpo.indexOf(',');
+        String textoMinimo = virgula < 0 ? corpo : corpo.substring(0, virgula);
+        String textoMaximo = virgula < 0 ? corpo : corpo.substring(virgula + 1);
+        if (!numeroPequeno(textoMinimo) || !(textoMaximo.isEmpty() || numeroPequeno(textoMaximo))) {
+            return null;
+        }
+        int minimo = Integer.parseInt(textoMinimo);
+        int maximo = textoMaximo.isEmpty() ? Integer.MAX_VALUE : Integer.parseInt(textoMaximo);
+        return minimo <= maximo ? new int[]{minimo, maximo} : null;
+    }
+
+    private static boolean numeroPequeno(String texto) {
+        if (texto.isEmpty() || texto.length() > 6) {
+            return false;
+        }
+        for (int i = 0; i < texto.length(); i++) {
+            if (texto.charAt(i) < '0' || texto.charAt(i) > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean alfanumericoAscii(char c) {
+        return (c >= '0' && c <= '9') || (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+}
@@ -0,0 +1,483 @@
+package org.com.pangolin.carteira.core.validacoes;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * Validador de lista que avalia várias regras de lista numa única passagem.
+ *
+ * <p>Compor {@code val_lista_tam_min}, {@code val_lista_sem_nulos}, {@code val_lista_ordenada},
+ * {@code val_lista_max_maior_que} e afins com {@link Validator#and(Validator)} faz cada regra
+ * percorrer a lista inteira de novo. O plano percorre a lista uma vez e acompanha, ao mesmo
+ * tempo, a quantidade de elementos, os nulos, a ordem, o mínimo, o máximo e o resultado de cada
+ * condição. Os erros são os mesmos, na mesma ordem, que a composição das regras separadas
+ * produziria, inclusive as mesmas instâncias de {@link CatalogoErros}.</p>
+ *
+ * <p>A passagem para assim que nenhum elemento restante pode mudar o resultado. O mínimo e o
+ * máximo seguem o percurso de {@code Collections.min/max}, e a ordem deixa de ser comparada após
+ * a primeira inversão, como na regra separada. As regras de extremos e de ordem exigem elementos
+ * {@link Comparable}.</p>
+ *
+ * <p>Como o plano só guarda o estado da passagem (contagem, extremos, último elemento e
+ * indicadores), ele também valida entradas que não cabem numa lista: {@link #validarFluxo(Iterator)}
+ * e as variantes para {@link Spliterator} e {@link Stream} consomem os elementos um a um com
+ * memória constante. Para um fluxo consumido aos poucos, {@link #iniciar()} devolve o
+ * {@link Estado}, que recebe os elementos e informa a qualquer momento os erros que já não
+ * podem mais ser revertidos.</p>
+ *
+ * <p><b>Exemplo:</b></p>
+ * <pre>{@code
+ * Validator<List<BigDecimal>> plano = PlanoLista.<BigDecimal>criar()
+ *         .comTamanhoMinimo(1)
+ *         .semNulos()
+ *         .ordenada(true)
+ *         .comMaximoMaiorQue(BigDecimal.ZERO)
+ *         .construir();
+ * }</pre>
+ *
+ * @param <T> Tipo dos elementos da lista
+ */
+public final class PlanoLista<T> implements Validator<List<T>> {
+
+    private enum Tipo {
+        NAO_VAZIA, TAMANHO_MINIMO, TAMANHO_MAXIMO, TAMANHO_EXATO, SEM_NULOS, CRESCENTE, DECRESCENTE,
+        MAXIMO_MAIOR_QUE, MINIMO_MENOR_QUE, INTERVALO_EXTREMOS, TODOS_ATENDEM, ALGUM_ATENDE, NENHUM_ATENDE
+    }
+
+    /**
+     * Uma regra do plano. {@code condicao} indexa {@link #condicoes} nas regras de condição.
+     */
+    private record Regra(Tipo tipo, int tamanho, Object referencia, Object referenciaMaxima, int condicao,
+                         List<ErrosValidacao> falha) {}
+
+    private final Regra[] regras;
+    private final Predicate<Object>[] condicoes;
+    /** Para cada condição, o resultado do teste que a decide: {@code false} em todos, {@code true} em algum/nenhum. */
+    private final boolean[] decisivo;
+    private final boolean verificaNulos;
+    private final boolean verificaCrescente;
+    private final boolean verificaDecrescente;
+    private final boolean precisaMaximo;
+    private final boolean precisaMinimo;
+    /** Se uma lista nula lança {@link NullPointerException}, como em alguma das regras separadas. */
+    private final boolean rejeitaListaNula;
+    /**
+     * Quantidade a partir da qual nenhuma regra de tamanho muda mais: um fluxo só é contado até
+     * ela. Zero quando o plano não tem regras de tamanho.
+     */
+    private final long limiteContagem;
+
+    private PlanoLista(Builder<T> builder) {
+        this.regras = builder.regras.toArray(new Regra[0]);
+        this.condicoes = builder.condicoes.toArray(novoArrayDeCondicoes(0));
+        this.decisivo = Arrays.copyOf(builder.decisivo, builder.condicoes.size());
+        boolean nulos = false, crescente = false, decrescente = false, maximo = false, minimo = false;
+        boolean rejeitaNula = false;
+        long limite = 0;
+        for (Regra regra : regras) {
+            switch (regra.tipo) {
+                case NAO_VAZIA -> limite = Math.max(limite, 1);
+                case TAMANHO_MINIMO -> limite = Math.max(limite, regra.tamanho);
+                // Máximo e exato só mudam de novo ao passar do limite, quando reprovam em definitivo.
+                case TAMANHO_MAXIMO, TAMANHO_EXATO -> limite = Math.max(limite, (long) regra.tamanho + 1);
+                case SEM_NULOS -> nulos = true;
+                case CRESCENTE -> crescente = true;
+                case DECRESCENTE -> decrescente = true;
+                case MAXIMO_MAIOR_QUE -> maximo = true;
+                case MINIMO_MENOR_QUE -> minimo = true;
+                case INTERVALO_EXTREMOS -> {
+                    maximo = true;
+                    minimo = true;
+                }
+                default -> {}
+            }
+            rejeitaNula |= switch (regra.tipo) {
+                case MAXIMO_MAIOR_QUE, MINIMO_MENOR_QUE, INTERVALO_EXTREMOS -> false;
+                default -> true;
+            };
+        }
+        this.verificaNulos = nulos;
+        this.verificaCrescente = crescente;
+        this.verificaDecrescente = decrescente;
+        this.precisaMaximo = maximo;
+        this.precisaMinimo = minimo;
+        this.rejeitaListaNula = rejeitaNula;
+        this.limiteContagem = limite;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Predicate<Object>[] novoArrayDeCondicoes(int tamanho) {
+        return (Predicate<Object>[]) new Predicate<?>[tamanho];
+    }
+
+    public static <T> Builder<T> criar() {
+        return new Builder<>();
+    }
+
+    /**
+     * Quantidade de regras do plano.
+     */
+    public int quantidadeRegras() {
+        return regras.length;
+    }
+
+    @Override
+    public List<ErrosValidacao> validar(List<T> lista) {
+        if (lista == null) {
+            if (rejeitaListaNula) {
+                throw new NullPointerException("Lista não pode ser nula");
+            }
+            return concluir(null);
+        }
+        Estado estado = iniciar();
+        if (lista instanceof RandomAccess) {
+            for (int i = 0, tamanho = lista.size(); i < tamanho && !estado.decidido(); i++) {
+                estado.aceitar(lista.get(i));
+            }
+        } else {
+            for (T elemento : lista) {
+                if (estado.decidido()) {
+                    break;
+                }
+                estado.aceitar(elemento);
+            }
+        }
+        estado.quantidade = lista.size();
+        return concluir(estado);
+    }
+
+    /**
+     * Valida os elementos do iterador sem materializá-los, com os mesmos erros de
+     * {@link #validar(List)} para uma lista com os mesmos elementos.
+     *
+     * <p>Depois que nenhuma regra pode mais mudar, os elementos restantes só são contados, e
+     * apenas até as regras de tamanho ficarem decididas: {@code naoVazia()} para no primeiro
+     * elemento, {@code comTamanhoMinimo(n)} no n-ésimo e {@code comTamanhoMaximo(n)} ou
+     * {@code comTamanhoExato(n)} ao passar de n. Um fluxo infinito termina assim que todas as
+     * regras estiverem decididas.</p>
+     */
+    public List<ErrosValidacao> validarFluxo(Iterator<? extends T> elementos) {
+        Objects.requireNonNull(elementos, "Elementos não podem ser nulos");
+        Estado estado = iniciar();
+        while (!estado.decidido() && elementos.hasNext()) {
+            estado.aceitar(elementos.next());
+        }
+        while (estado.quantidade < limiteContagem && elementos.hasNext()) {
+            elementos.next();
+            estado.quantidade++;
+        }
+        return estado.concluir();
+    }
+
+    /**
+     * Como {@link #validarFluxo(Iterator)}; com {@link Spliterator#SIZED}, os elementos restantes
+     * não são percorridos para a contagem.
+     */
+    public List<ErrosValidacao> validarFluxo(Spliterator<? extends T> elementos) {
+        Objects.requireNonNull(elementos, "Elementos não podem ser nulos");
+        Estado estado = iniciar();
+        while (!estado.decidido() && elementos.tryAdvance(estado::aceitar)) {
+            // os elementos são entregues ao estado pelo tryAdvance
+        }
+        if (estado.quantidade < limiteContagem) {
+            if (elementos.hasCharacteristics(Spliterator.SIZED)) {
+                estado.quantidade += elementos.estimateSize();
+            } else {
+                while (estado.quantidade < limiteContagem && elementos.tryAdvance(elemento -> estado.quantidade++)) {
+                    // os elementos só são contados
+                }
+            }
+        }
+        return estado.concluir();
+    }
+
+    /**
+     * Como {@link #validarFluxo(Spliterator)}. O stream é consumido, mas não fechado.
+     */
+    public List<ErrosValidacao> validarFluxo(Stream<? extends T> elementos) {
+        Objects.requireNonNull(elementos, "Elementos não podem ser nulos");
+        return validarFluxo(elementos.spliterator());
+    }
+
+    /**
+     * Cria o estado de uma passagem, que recebe os elementos um a um.
+     */
+    public Estado iniciar() {
+        return new Estado();
+    }
+
+    /**
+     * Erros das regras para o estado final de uma passagem; {@code null} representa uma lista nula.
+     */
+    private List<ErrosValidacao> concluir(Estado estado) {
+        List<ErrosValidacao> erros = null;
+        for (Regra regra : regras) {
+            if (estado == null || !aprovada(regra, estado)) {
+                if (erros == null) {
+                    erros = new ArrayList<>();
+                }
+                erros.addAll(regra.falha);
+            }
+        }
+        return erros == null ? List.of() : erros;
+    }
+
+    private boolean aprovada(Regra regra, Estado estado) {
+        return switch (regra.tipo) {
+            case NAO_VAZIA -> estado.quantidade > 0;
+            case TAMANHO_MINIMO -> estado.quantidade >= regra.tamanho;
+            case TAMANHO_MAXIMO -> estado.quantidade <= regra.tamanho;
+            case TAMANHO_EXATO -> estado.quantidade == regra.tamanho;
+            case SEM_NULOS -> !estado.encontrouNulo;
+            case CRESCENTE -> !estado.foraDeOrdemCrescente;
+            case DECRESCENTE -> !estado.foraDeOrdemDecrescente;
+            case MAXIMO_MAIOR_QUE -> estado.quantidade > 0 && comparar(estado.maximo, regra.referencia) > 0;
+            case MINIMO_MENOR_QUE -> estado.quantidade > 0 && comparar(estado.minimo, regra.referencia) < 0;
+            case INTERVALO_EXTREMOS -> estado.quantidade > 0
+                    && comparar(estado.minimo, regra.referencia) < 0
+                    && comparar(estado.maximo, regra.referenciaMaxima) > 0;
+            case TODOS_ATENDEM, NENHUM_ATENDE -> !estado.decididas[regra.condicao];
+            case ALGUM_ATENDE -> estado.decididas[regra.condicao];
+        };
+    }
+
+    /**
+     * Se a regra já reprovou os elementos recebidos de um jeito que nenhum elemento a mais reverte.
+     */
+    private boolean reprovadaEmDefinitivo(Regra regra, Estado estado) {
+        return switch (regra.tipo) {
+            case TAMANHO_MAXIMO, TAMANHO_EXATO -> estado.quantidade > regra.tamanho;
+            case SEM_NULOS -> estado.encontrouNulo;
+            case CRESCENTE -> estado.foraDeOrdemCrescente;
+            case DECRESCENTE -> estado.foraDeOrdemDecrescente;
+            case TODOS_ATENDEM, NENHUM_ATENDE -> estado.decididas[regra.condicao];
+            default -> false;
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static int comparar(Object elemento, Object outro) {
+        return ((Comparable<Object>) elemento).compareTo(outro);
+    }
+
+    /**
+     * Estado incremental de uma passagem: o que já se sabe sobre os elementos recebidos.
+     *
+     * <p>Não é seguro para uso concorrente; cada fluxo usa o seu próprio estado.</p>
+     */
+    public final class Estado {
+        private long quantidade;
+        private boolean encontrouNulo;
+        private boolean foraDeOrdemCrescente;
+        private boolean foraDeOrdemDecrescente;
+        private Object anterior;
+        private Object maximo;
+        private Object minimo;
+        /** Condições cujo resultado decisivo já apareceu. */
+        private final boolean[] decididas = new boolean[condicoes.length];
+        private int pendentes = condicoes.length;
+
+        private Estado() {}
+
+        /**
+         * Recebe o próximo elemento da entrada.
+         */
+        public void aceitar(T elemento) {
+            if (verificaNulos && elemento == null) {
+                encontrouNulo = true;
+            }
+            if ((verificaCrescente && !foraDeOrdemCrescente) || (verificaDecrescente && !foraDeOrdemDecrescente)) {
+                if (quantidade > 0) {
+                    int cmp = comparar(anterior, elemento);
+                    foraDeOrdemCrescente |= cmp > 0;
+                    foraDeOrdemDecrescente |= cmp < 0;
+                }
+                anterior = elemento;
+            }
+            if (precisaMaximo) {
+                if (quantidade == 0 || comparar(elemento, maximo) > 0) {
+                    maximo = elemento;
+                }
+            }
+            if (precisaMinimo) {
+                if (quantidade == 0 || comparar(elemento, minimo) < 0) {
+                    minimo = elemento;
+                }
+            }
+            if (pendentes > 0) {
+                for (int k = 0; k < condicoes.length; k++) {
+                    if (!decididas[k] && condicoes[k].test(elemento) == decisivo[k]) {
+                        decididas[k] = true;
+                        pendentes--;
+                    }
+                }
+            }
+            quantidade++;
+        }
+
+        /**
+         * Se nenhum elemento a mais pode mudar o resultado das regras, exceto as de tamanho.
+         */
+        public boolean decidido() {
+            return pendentes == 0
+                    && !precisaMaximo && !precisaMinimo
+                    && (!verificaNulos || encontrouNulo)
+                    && (!verificaCrescente || foraDeOrdemCrescente)
+                    && (!verificaDecrescente || foraDeOrdemDecrescente);
+        }
+
+        /**
+         * Quantidade de elementos recebidos.
+         */
+        public long quantidade() {
+            return quantidade;
+        }
+
+        /**
+         * Ponto de verificação: os erros das regras que já reprovaram a entrada em definitivo,
+         * como um tamanho máximo ultrapassado, um nulo ou uma inversão de ordem. Regras que ainda
+         * dependem do restante da entrada, como mínimo, máximo e tamanho mínimo, só aparecem em
+         * {@link #concluir()}.
+         *
+         * @return Erros antecipados, na ordem das regras, ou lista vazia
+         */
+        public List<ErrosValidacao> errosParciais() {
+            List<ErrosValidacao> erros = null;
+            for (Regra regra : regras) {
+                if (reprovadaEmDefinitivo(regra, this)) {
+                    if (erros == null) {
+                        erros = new ArrayList<>();
+                    }
+                    erros.addAll(regra.falha);
+                }
+            }
+            return erros == null ? List.of() : erros;
+        }
+
+        /**
+         * Fim da entrada: os erros de todas as regras, iguais aos de {@link #validar(List)}.
+         */
+        public List<ErrosValidacao> concluir() {
+            return PlanoLista.this.concluir(this);
+        }
+    }
+
+    /**
+     * Monta o plano na ordem em que as regras seriam compostas com {@code and}.
+     */
+    public static final class Builder<T> {
+        private final List<Regra> regras = new ArrayList<>();
+        private final List<Predicate<Object>> condicoes = new ArrayList<>();
+        private boolean[] decisivo = new boolean[4];
+
+        private Builder() {}
+
+        private Builder<T> adicionar(Tipo tipo, int tamanho, Object referencia, Object referenciaMaxima,
+                                     List<ErrosValidacao> falha) {
+            regras.add(new Regra(tipo, tamanho, referencia, referenciaMaxima, -1, falha));
+            return this;
+        }
+
+        private static List<ErrosValidacao> falha(String mensagem) {
+            return CatalogoErros.comoLista(Validator.CODE_PADRAO, mensagem, false);
+        }
+
+        private static List<ErrosValidacao> falha(MensagemTemplate mensagem) {
+            return CatalogoErros.comoLista(Validator.CODE_PADRAO, mensagem, false);
+        }
+
+        /** Mesmo que {@link Validacoes#listaNaoVazia()}. */
+        public Builder<T> naoVazia() {
+            return adicionar(Tipo.NAO_VAZIA, 0, null, null, falha("A lista não pode ser vazia"));
+        }
+
+        /** Mesmo que {@link Validacoes#val_lista_tam_min(int)}. */
+        public Builder<T> comTamanhoMinimo(int min) {
+            return adicionar(Tipo.TAMANHO_MINIMO, min, null, null,
+                    falha(MensagemTemplate.de("A lista deve ter no mínimo %d elementos", min)));
+        }
+
+        /** Mesmo que {@link Validacoes#val_lista_tam_max(int)}. */
+        public Builder<T> comTamanhoMaximo(int max) {
+            return adicionar(Tipo.TAMANHO_MAXIMO, max, null, null,
+                    falha(MensagemTemplate.de("A lista não pode ter mais que %d elementos", max)));
+        }
+
+        /** Mesmo que {@link Validacoes#val_lista_tam_exato(int)}. */
+        public Builder<T> comTamanhoExato(int tamanho) {
+            return adicionar(Tipo.TAMANHO_EXATO, tamanho, null, null,
+                    falha(MensagemTemplate.de("A lista deve ter exatamente %d elementos", tamanho)));
+        }
+
+        /** Mesmo que {@link Validacoes#val_lista_sem_nulos()}. */
+        public Builder<T> semNulos() {
+            return adicionar(Tipo.SEM_NULOS, 0, null, null, falha("A lista não pode conter elementos nulos"));
+        }
+
+        /** Mesmo que {@link Validacoes#val_lista_ordenada(boolean)}. */
+        public Builder<T> ordenada(boolean crescente) {
+            return crescente
+                    ? adicionar(Tipo.CRESCENTE, 0, null, null, falha("A lista deve estar em ordem crescente"))
+                    : adicionar(Tipo.DECRESCENTE, 0, null, null, falha("A lista deve estar em ordem decrescente"));
+        }
+
+        /** Mesmo que {@link Validacoes#val_lista_max_maior_que(Comparable)}. */
+        public Builder<T> comMaximoMaiorQue(T x) {
+            return adicionar(Tipo.MAXIMO_MAIOR_QUE, 0, x, null,
+                    falha(MensagemTemplate.de("O maior elemento da lista deve ser maior que %s", x)));
+        }
+
+        /** Mesmo que {@link Validacoes#val_lista_min_menor_que(Comparable)}. */
+        public Builder<T> comMinimoMenorQue(T y) {
+            return adicionar(Tipo.MINIMO_MENOR_QUE, 0, y, null,
+                    falha(MensagemTemplate.de("O menor elemento da lista deve ser menor que %s", y)));
+        }
+
+        /** Mesmo que {@link Validacoes#val_lista_intervalo_extremos(Comparable, Comparable)}. */
+        public Builder<T> comIntervaloExtremos(T minReferencia, T maxReferencia) {
+            return adicionar(Tipo.INTERVALO_EXTREMOS, 0, minReferencia, maxReferencia,
+                    falha(MensagemTemplate.de("Elementos devem ter mínimo < %s e máximo > %s",
+                            minReferencia, maxReferencia)));
+        }
+
+        /** Mesmo que {@link Validacoes#val_lista_todos_atendem(Predicate, String)}. */
+        public Builder<T> todosAtendem(Predicate<? super T> condicao, String msgErro) {
+            return adicionarCondicao(Tipo.TODOS_ATENDEM, condicao, false, msgErro);
+        }
+
+        /** Mesmo que {@link Validacoes#val_lista_algum_atende(Predicate, String)}. */
+        public Builder<T> algumAtende(Predicate<? super T> condicao, String msgErro) {
+            return adicionarCondicao(Tipo.ALGUM_ATENDE, condicao, true, msgErro);
+        }
+
+        /** Mesmo que {@link Validacoes#val_lista_nenhum_atende(Predicate, String)}. */
+        public Builder<T> nenhumAtende(Predicate<? super T> condicao, String msgErro) {
+            return adicionarCondicao(Tipo.NENHUM_ATENDE, condicao, true, msgErro);
+        }
+
+        @SuppressWarnings("unchecked")
+        private Builder<T> adicionarCondicao(Tipo tipo, Predicate<? super T> condicao, boolean resultadoDecisivo,
+                                             String msgErro) {
+            Objects.requireNonNull(condicao, "Condição não pode ser nula");
+            int indice = condicoes.size();
+            if (indice == decisivo.length) {
+                decisivo = Arrays.copyOf(decisivo, indice * 2);
+            }
+            condicoes.add((Predicate<Object>) condicao);
+            decisivo[indice] = resultadoDecisivo;
+            regras.add(new Regra(tipo, 0, null, null, indice, falha(msgErro)));
+            return this;
+        }
+
+        public PlanoLista<T> construir() {
+            return new PlanoLista<>(this);
+        }
+    }
+}
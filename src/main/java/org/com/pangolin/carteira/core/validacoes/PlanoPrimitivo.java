@@ -0,0 +1,104 @@
+package org.com.pangolin.carteira.core.validacoes;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Estrutura de pontos de verificação compartilhada pelos planos compilados de validadores
+ * primitivos ({@link IntValidadorCompilado}, {@link LongValidadorCompilado},
+ * {@link DoubleValidadorCompilado}).
+ *
+ * <p>Segue as mesmas regras de {@link ValidadorCompilado}: cada {@code and} vira um ponto de
+ * verificação após a sua última regra, e um erro fatal dentro do intervalo do ponto lança
+ * {@link Validator.ValidacaoException} com a mesma mensagem. Os planos de cada tipo só
+ * executam o laço sobre as suas regras e delegam o registro de erros e as verificações para cá.
+ * O {@link Estado} é criado apenas quando surge o primeiro erro.</p>
+ */
+final class PlanoPrimitivo {
+
+    private static final int[] SEM_VERIFICACAO = new int[0];
+
+    static final PlanoPrimitivo FOLHA = new PlanoPrimitivo(new int[][]{SEM_VERIFICACAO});
+
+    /** Para cada regra, o início dos escopos {@code and} que se fecham após ela, do mais interno ao mais externo. */
+    private final int[][] verificacoes;
+
+    private PlanoPrimitivo(int[][] verificacoes) {
+        this.verificacoes = verificacoes;
+    }
+
+    int quantidadeRegras() {
+        return verificacoes.length;
+    }
+
+    static PlanoPrimitivo conjuncao(PlanoPrimitivo esquerdo, PlanoPrimitivo direito) {
+        int deslocamento = esquerdo.verificacoes.length;
+        int[][] verificacoes = Arrays.copyOf(esquerdo.verificacoes, deslocamento + direito.verificacoes.length);
+        for (int i = 0; i < direito.verificacoes.length; i++) {
+            int[] escopos = direito.verificacoes[i].clone();
+            for (int j = 0; j < escopos.length; j++) {
+                escopos[j] += deslocamento;
+            }
+            verificacoes[deslocamento + i] = escopos;
+        }
+        int ultima = verificacoes.length - 1;
+        int[] escopos = Arrays.copyOf(verificacoes[ultima], verificacoes[ultima].length + 1);
+        escopos[escopos.length - 1] = 0;
+        verificacoes[ultima] = escopos;
+        return new PlanoPrimitivo(verificacoes);
+    }
+
+    /**
+     * Registra os erros produzidos pela regra, criando o estado se for o primeiro erro.
+     */
+    static Estado registrar(Estado estado, int regra, List<ErrosValidacao> resultado) {
+        if (estado == null) {
+            estado = new Estado();
+        }
+        for (ErrosValidacao erro : resultado) {
+            estado.erros.add(erro);
+            if (erro.deveLancarExcecao()) {
+                if (estado.totalFatais == estado.fatais.length) {
+                    estado.fatais = Arrays.copyOf(estado.fatais, estado.totalFatais * 2);
+                    estado.regraDoFatal = Arrays.copyOf(estado.regraDoFatal, estado.totalFatais * 2);
+                }
+                estado.fatais[estado.totalFatais] = erro;
+                estado.regraDoFatal[estado.totalFatais++] = regra;
+            }
+        }
+        return estado;
+    }
+
+    /**
+     * Verifica se algum ponto de verificação após a regra cobre um erro fatal. Com {@code lancar},
+     * lança a exceção do primeiro deles; sem, apenas informa que a avaliação deve parar ali.
+     */
+    boolean interromper(Estado estado, int regra, boolean lancar) {
+        if (estado == null || estado.totalFatais == 0) {
+            return false;
+        }
+        for (int inicioEscopo : verificacoes[regra]) {
+            for (int k = 0; k < estado.totalFatais; k++) {
+                if (estado.regraDoFatal[k] >= inicioEscopo) {
+                    if (lancar) {
+                        throw Validator.ValidacaoException.deErroFatal(estado.fatais[k]);
+                    }
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    static List<ErrosValidacao> erros(Estado estado) {
+        return estado == null ? List.of() : estado.erros;
+    }
+
+    static final class Estado {
+        private final List<ErrosValidacao> erros = new ArrayList<>();
+        private ErrosValidacao[] fatais = new ErrosValidacao[2];
+        private int[] regraDoFatal = new int[2];
+        private int totalFatais;
+    }
+}
@@ -3,7 +3,13 @@ package org.com.pangolin.carteira.core.validacoes;
 import java.util.List;
 
 public interface RecordValidado {
-     ResultadoValidacao resultadoValidacao= ResultadoValidacao.validar();
+    /**
+     * Constante compartilhada por todas as implementações; nunca acumula erros.
+     *
+     * @deprecated use {@link ContextoValidacao}, confinado à chamada que o abriu.
+     */
+    @Deprecated
+     ResultadoValidacao resultadoValidacao= ResultadoValidacao.VALIDO;
     /**
      * Método para validar um objeto do tipo T usando um validador específico.
      *
@@ -53,14 +59,15 @@ public interface RecordValidado {
      static ErrosValidacao  adicionarErroValidacao( String codigo, String menssagem) {
          return new ErrosValidacao(codigo, menssagem, false);
      }
-     /*
-      * Cria um objeto de erro de validação com código, mensagem e campo específico.
+     /**
+      * Registra os erros do campo no {@link ContextoValidacao} aberto na thread atual.
+      * Sem contexto aberto, os erros são descartados, como antes.
       */
      default RecordValidado adicionarResultadoValidacao(String campo, List<ErrosValidacao> erro) {
             if (erro == null || erro.isEmpty()) {
                 return this;
             }
-            resultadoValidacao.combinar(ResultadoValidacao.invalidar(campo, erro));
+            ContextoValidacao.registrarNoAtual(campo, erro);
             return  this;
      }
 }
\ No newline at end of file
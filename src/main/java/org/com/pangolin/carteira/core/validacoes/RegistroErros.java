@@ -0,0 +1,149 @@
+package org.com.pangolin.carteira.core.validacoes;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Lista persistente de pares (campo, erro) usada internamente por {@link ResultadoValidacao}.
+ *
+ * <p>Os pares ficam em blocos de tamanho fixo num armazém compartilhado entre versões. Cada
+ * versão enxerga apenas os primeiros {@code tamanho} pares; acrescentar à versão mais recente
+ * de um armazém escreve nos próximos espaços livres e cria uma nova versão sem copiar nada.
+ * Só quando uma versão antiga é estendida (ramificação) os seus pares são copiados para um
+ * armazém novo. Assim, dobrar N resultados com {@code combinar} custa O(N) no total.</p>
+ *
+ * <p>Instâncias são imutáveis do ponto de vista de quem as lê e podem ser compartilhadas
+ * entre threads.</p>
+ */
+final class RegistroErros {
+
+    private static final int TAMANHO_BLOCO = 32;
+
+    static final RegistroErros VAZIO = new RegistroErros(null, new Object[0][], 0);
+
+    private final Armazem armazem;
+    /** Diretório de blocos visto por esta versão; cada bloco alterna campo e erro. */
+    private final Object[][] blocos;
+    private final int tamanho;
+
+    private RegistroErros(Armazem armazem, Object[][] blocos, int tamanho) {
+        this.armazem = armazem;
+        this.blocos = blocos;
+        this.tamanho = tamanho;
+    }
+
+    /**
+     * Cria um registro com os erros do mapa, na ordem de iteração do mapa.
+     */
+    static RegistroErros de(Map<String, List<ErrosValidacao>> erros) {
+        Objects.requireNonNull(erros, "Erros não podem ser nulos");
+        RegistroErros registro = VAZIO;
+        for (Map.Entry<String, List<ErrosValidacao>> entrada : erros.entrySet()) {
+            registro = registro.adicionar(entrada.getKey(), entrada.getValue());
+        }
+        return registro;
+    }
+
+    int tamanho() {
+        return tamanho;
+    }
+
+    boolean vazio() {
+        return tamanho == 0;
+    }
+
+    String campo(int indice) {
+        return (String) blocos[indice / TAMANHO_BLOCO][(indice % TAMANHO_BLOCO) * 2];
+    }
+
+    ErrosValidacao erro(int indice) {
+        return (ErrosValidacao) blocos[indice / TAMANHO_BLOCO][(indice % TAMANHO_BLOCO) * 2 + 1];
+    }
+
+    /**
+     * Devolve uma versão com os erros do campo acrescentados ao final.
+     */
+    RegistroErros adicionar(String campo, List<ErrosValidacao> erros) {
+        Objects.requireNonNull(erros, "Erros não podem ser nulos");
+        if (erros.isEmpty()) {
+            return this;
+        }
+        return anexar(erros.size(), (destino, posicao) -> {
+            for (ErrosValidacao erro : erros) {
+                destino.gravar(posicao++, campo, erro);
+            }
+        });
+    }
+
+    /**
+     * Devolve uma versão com todos os pares de {@code outro} acrescentados ao final.
+     */
+    RegistroErros concatenar(RegistroErros outro) {
+        if (outro.vazio()) {
+            return this;
+        }
+        if (this.vazio()) {
+            return outro;
+        }
+        return anexar(outro.tamanho, (destino, posicao) -> {
+            for (int i = 0; i < outro.tamanho; i++) {
+                destino.gravar(posicao + i, outro.campo(i), outro.erro(i));
+            }
+        });
+    }
+
+    private RegistroErros anexar(int quantidade, Escrita escrita) {
+        if (armazem != null) {
+            synchronized (armazem) {
+                if (armazem.ocupado == tamanho) {
+                    armazem.reservar(tamanho + quantidade);
+                    escrita.escrever(armazem, tamanho);
+                    armazem.ocupado = tamanho + quantidade;
+                    return new RegistroErros(armazem, armazem.blocos, tamanho + quantidade);
+                }
+            }
+        }
+        Armazem novo = new Armazem();
+        novo.reservar(tamanho + quantidade);
+        for (int i = 0; i < tamanho; i++) {
+            novo.gravar(i, campo(i), erro(i));
+        }
+        escrita.escrever(novo, tamanho);
+        novo.ocupado = tamanho + quantidade;
+        return new RegistroErros(novo, novo.blocos, tamanho + quantidade);
+    }
+
+    @FunctionalInterface
+    private interface Escrita {
+        void escrever(Armazem destino, int posicao);
+    }
+
+    /**
+     * Armazém de blocos compartilhado por versões; alterado apenas sob o seu próprio monitor.
+     */
+    private static final class Armazem {
+        private Object[][] blocos = new Object[4][];
+        private int ocupado;
+
+        void reservar(int capacidade) {
+            int necessarios = (capacidade + TAMANHO_BLOCO - 1) / TAMANHO_BLOCO;
+            if (necessarios > blocos.length) {
+                blocos = Arrays.copyOf(blocos, Math.max(necessarios, blocos.length * 2));
+            }
+            for (int i = 0; i < necessarios; i++) {
+                if (blocos[i] == null) {
+                    blocos[i] = new Object[TAMANHO_BLOCO * 2];
+                }
+            }
+        }
+
+        void gravar(int indice, String campo, ErrosValidacao erro) {
+            Object[] bloco = blocos[indice / TAMANHO_BLOCO];
+            int posicao = (indice % TAMANHO_BLOCO) * 2;
+            bloco[posicao] = campo;
+            bloco[posicao + 1] = erro;
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package org.com.pangolin.carteira.core.validacoes;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Objects;
+
+/**
+ * Regras de data relativas a "hoje" com relógio injetável, equivalentes a
+ * {@link Validacoes#val_data_antes_de}, {@link Validacoes#val_data_depois_de},
+ * {@link Validacoes#val_data_no_periodo}, {@link Validacoes#val_data_futura} e
+ * {@link Validacoes#val_data_passada}, com as mesmas mensagens de erro.
+ *
+ * <p>As regras de {@link Validacoes} chamam {@code LocalDate.now()} a cada avaliação, o que lê o
+ * relógio e resolve o fuso horário a cada parcela. Aqui "hoje" é guardado como dia epoch
+ * ({@link LocalDate#toEpochDay()}) e só é recalculado quando o relógio passa da meia-noite no
+ * fuso do relógio, ou quando o fuso muda; cada avaliação compara apenas inteiros. Com {@link #paraLote()}, "hoje" é
+ * resolvido uma única vez para um lote inteiro, que é validado sem nenhuma leitura do relógio.</p>
+ *
+ * <p>As variantes {@code *EmDias} recebem diretamente o dia epoch, para cronogramas já
+ * guardados como {@code long}.</p>
+ *
+ * <p><b>Exemplo:</b></p>
+ * <pre>{@code
+ * RegrasData lote = RegrasData.com(relogio).paraLote();
+ * Validator<LocalDate> vencimento = lote.depoisDe(0).and(lote.antesDe(365));
+ * }</pre>
+ */
+public final class RegrasData {
+
+    private static final RegrasData SISTEMA = new RegrasData(Clock.systemUTC(), null);
+
+    /** Relógio de origem, ou {@code null} quando "hoje" é fixo. */
+    private final Clock relogio;
+    /** Fuso do relógio, ou {@code null} para ler o fuso padrão do sistema a cada avaliação. */
+    private final ZoneId fuso;
+    private volatile Hoje hoje;
+
+    /**
+     * "Hoje" em dias epoch, o intervalo de instantes, em milissegundos, em que ele vale e o fuso
+     * em que foi resolvido.
+     */
+    private record Hoje(long dia, long inicioMillis, long fimMillis, ZoneId fuso) {}
+
+    private RegrasData(Clock relogio, ZoneId fuso) {
+        this.relogio = relogio;
+        this.fuso = fuso;
+        this.hoje = resolver(relogio.millis(), fusoAtual());
+    }
+
+    private RegrasData(long dia) {
+        this.relogio = null;
+        this.fuso = null;
+        this.hoje = new Hoje(dia, Long.MIN_VALUE, Long.MAX_VALUE, null);
+    }
+
+    /**
+     * Regras sobre o relógio do sistema no fuso padrão, como {@code LocalDate.now()}. O fuso
+     * padrão é lido a cada avaliação, de modo que uma mudança com
+     * {@link java.util.TimeZone#setDefault} vale a partir da próxima validação.
+     */
+    public static RegrasData doSistema() {
+        return SISTEMA;
+    }
+
+    public static RegrasData com(Clock relogio) {
+        Objects.requireNonNull(relogio, "Relógio não pode ser nulo");
+        return new RegrasData(relogio, relogio.getZone());
+    }
+
+    /**
+     * Regras com "hoje" fixo, para lotes já datados e testes.
+     */
+    public static RegrasData noDia(LocalDate hoje) {
+        return new RegrasData(Objects.requireNonNull(hoje, "Data não pode ser nula").toEpochDay());
+    }
+
+    /**
+     * Fixa o "hoje" atual para a validação de um lote: as regras devolvidas não leem mais o relógio.
+     */
+    public RegrasData paraLote() {
+        return relogio == null ? this : new RegrasData(hojeEmDias());
+    }
+
+    /**
+     * "Hoje" em dias epoch; com relógio, só recalcula na virada do dia ou quando o fuso muda.
+     */
+    public long hojeEmDias() {
+        Hoje atual = hoje;
+        if (relogio != null) {
+            long agora = relogio.millis();
+            ZoneId fusoAtual = fusoAtual();
+            if (agora < atual.inicioMillis || agora >= atual.fimMillis || fusoAtual != atual.fuso) {
+                atual = resolver(agora, fusoAtual);
+                hoje = atual;
+            }
+        }
+        return atual.dia;
+    }
+
+    private ZoneId fusoAtual() {
+        return fuso != null ? fuso : ZoneId.systemDefault();
+    }
+
+    private static Hoje resolver(long agora, ZoneId fuso) {
+        LocalDate dia = LocalDate.ofInstant(Instant.ofEpochMilli(agora), fuso);
+        return new Hoje(dia.toEpochDay(),
+                dia.atStartOfDay(fuso).toInstant().toEpochMilli(),
+                dia.plusDays(1).atStartOfDay(fuso).toInstant().toEpochMilli(),
+                fuso);
+    }
+
+    /** Mesmo que {@link Validacoes#val_data_antes_de(int)}. */
+    public Validator<LocalDate> antesDe(int dias) {
+        return emDatas(antesDeEmDias(dias));
+    }
+
+    /** Mesmo que {@link Validacoes#val_data_depois_de(int)}. */
+    public Validator<LocalDate> depoisDe(int dias) {
+        return emDatas(depoisDeEmDias(dias));
+    }
+
+    /** Mesmo que {@link Validacoes#val_data_no_periodo(int, int)}. */
+    public Validator<LocalDate> noPeriodo(int diasAntes, int diasDepois) {
+        return emDatas(noPeriodoEmDias(diasAntes, diasDepois));
+    }
+
+    /** Mesmo que {@link Validacoes#val_data_futura()}. */
+    public Validator<LocalDate> futura() {
+        LongValidator regra = futuraEmDias();
+        return data -> regra.validar(data.toEpochDay());
+    }
+
+    /** Mesmo que {@link Validacoes#val_data_passada()}. */
+    public Validator<LocalDate> passada() {
+        LongValidator regra = passadaEmDias();
+        return data -> regra.validar(data.toEpochDay());
+    }
+
+    private static Validator<LocalDate> emDatas(LongValidator regra) {
+        return data -> {
+            Objects.requireNonNull(data, "Data não pode ser nula");
+            return regra.validar(data.toEpochDay());
+        };
+    }
+
+    public LongValidator antesDeEmDias(int dias) {
+        return LongValidator.of(
+                dia -> dia < hojeEmDias() + dias,
+                MensagemTemplate.de("A data deve ser anterior a %d dias a partir de hoje", dias));
+    }
+
+    public LongValidator depoisDeEmDias(int dias) {
+        return LongValidator.of(
+                dia -> dia > hojeEmDias() - dias,
+                MensagemTemplate.de("A data deve ser posterior a %d dias antes de hoje", dias));
+    }
+
+    public LongValidator noPeriodoEmDias(int diasAntes, int diasDepois) {
+        return LongValidator.of(
+                dia -> {
+                    long hojeEmDias = hojeEmDias();
+                    return dia >= hojeEmDias - diasAntes && dia <= hojeEmDias + diasDepois;
+                },
+                MensagemTemplate.de("A data deve estar entre %d dias antes e %d dias depois de hoje",
+                        diasAntes, diasDepois));
+    }
+
+    public LongValidator futuraEmDias() {
+        return LongValidator.of(dia -> dia > hojeEmDias(), "A data deve ser futura");
+    }
+
+    public LongValidator passadaEmDias() {
+        return LongValidator.of(dia -> dia < hojeEmDias(), "A data deve ser passada");
+    }
+}
@@ -0,0 +1,135 @@
+package org.com.pangolin.carteira.core.validacoes;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Resultado da validação de um lote de valores ({@link Validator#validarLote(List)} e variantes
+ * primitivas).
+ *
+ * <p>Guarda um {@link BitSet} com os índices que falharam e, apenas para eles, os erros em
+ * arrays esparsos ordenados por índice. Um lote todo válido não guarda nada além do tamanho, e
+ * {@link #todosValidos()} é uma única consulta ao bitmap.</p>
+ */
+public final class ResultadoLote {
+
+    private static final BitSet SEM_FALHAS = new BitSet(0);
+    private static final int[] SEM_INDICES = new int[0];
+    private static final List<?>[] SEM_ERROS = new List<?>[0];
+
+    private final int tamanho;
+    private final BitSet falhas;
+    /** Índices com falha em ordem crescente, paralelo a {@link #erros}. */
+    private final int[] indices;
+    private final List<?>[] erros;
+    private volatile Map<Integer, List<ErrosValidacao>> porIndice;
+
+    private ResultadoLote(int tamanho, BitSet falhas, int[] indices, List<?>[] erros) {
+        this.tamanho = tamanho;
+        this.falhas = falhas;
+        this.indices = indices;
+        this.erros = erros;
+    }
+
+    /**
+     * Quantidade de valores validados.
+     */
+    public int tamanho() {
+        return tamanho;
+    }
+
+    public boolean todosValidos() {
+        return falhas.isEmpty();
+    }
+
+    public int quantidadeFalhas() {
+        return indices.length;
+    }
+
+    public boolean falhou(int indice) {
+        return falhas.get(indice);
+    }
+
+    /**
+     * @return o primeiro índice com falha a partir de {@code aPartirDe}, ou {@code -1}
+     */
+    public int proximaFalha(int aPartirDe) {
+        return falhas.nextSetBit(aPartirDe);
+    }
+
+    /**
+     * @return cópia do bitmap de índices com falha
+     */
+    public BitSet falhas() {
+        return (BitSet) falhas.clone();
+    }
+
+    /**
+     * @return erros do valor no índice, ou lista vazia se ele for válido
+     */
+    @SuppressWarnings("unchecked")
+    public List<ErrosValidacao> erros(int indice) {
+        if (!falhas.get(indice)) {
+            return List.of();
+        }
+        return (List<ErrosValidacao>) erros[Arrays.binarySearch(indices, indice)];
+    }
+
+    /**
+     * @return mapa imutável índice → erros, apenas com os índices que falharam, em ordem crescente
+     */
+    public Map<Integer, List<ErrosValidacao>> errosPorIndice() {
+        Map<Integer, List<ErrosValidacao>> atual = porIndice;
+        if (atual == null) {
+            Map<Integer, List<ErrosValidacao>> mapa = new LinkedHashMap<>();
+            for (int i = 0; i < indices.length; i++) {
+                mapa.put(indices[i], erros(indices[i]));
+            }
+            atual = Collections.unmodifiableMap(mapa);
+            porIndice = atual;
+        }
+        return atual;
+    }
+
+    @Override
+    public String toString() {
+        return "ResultadoLote{tamanho=" + tamanho + ", falhas=" + falhas + '}';
+    }
+
+    /**
+     * Acumula as falhas de um lote percorrido em ordem crescente de índice. Nada é alocado
+     * até a primeira falha.
+     */
+    static final class Acumulador {
+        private BitSet falhas;
+        private int[] indices;
+        private List<?>[] erros;
+        private int quantidade;
+
+        void registrar(int indice, List<ErrosValidacao> errosDoValor) {
+            if (falhas == null) {
+                falhas = new BitSet();
+                indices = new int[8];
+                erros = new List<?>[8];
+            } else if (quantidade == indices.length) {
+                indices = Arrays.copyOf(indices, quantidade * 2);
+                erros = Arrays.copyOf(erros, quantidade * 2);
+            }
+            falhas.set(indice);
+            indices[quantidade] = indice;
+            erros[quantidade++] = List.copyOf(errosDoValor);
+        }
+
+        ResultadoLote concluir(int tamanho) {
+            if (falhas == null) {
+                return new ResultadoLote(tamanho, SEM_FALHAS, SEM_INDICES, SEM_ERROS);
+            }
+            return new ResultadoLote(tamanho, falhas, Arrays.copyOf(indices, quantidade),
+                    Arrays.copyOf(erros, quantidade));
+        }
+    }
+}
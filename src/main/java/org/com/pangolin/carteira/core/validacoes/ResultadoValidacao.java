@@ -2,21 +2,40 @@ package org.com.pangolin.carteira.core.validacoes;
 
 import java.util.*;
 import java.util.function.Function;
-import java.util.stream.Collectors;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import static java.util.Collections.emptyList;
 
 public class ResultadoValidacao {
 
+    /**
+     * Resultado válido compartilhado e imutável, usado nos caminhos em que a validação passa
+     * para não criar um objeto por chamada. Ao contrário de {@link #validar()}, não aceita
+     * {@link #comErros(Map)}.
+     */
+    public static final ResultadoValidacao VALIDO = new ResultadoValidacao(true, Collections.emptyMap());
+
     private final  boolean valido;
-    private Map<String, List<ErrosValidacao>> erros;
+    /**
+     * Pares (campo, erro) em ordem de inserção, compartilhados estruturalmente entre
+     * resultados combinados.
+     */
+    private RegistroErros registro;
+    /** Índices campo → erros e código → erros, montados uma única vez sob demanda. */
+    private volatile Indices indices;
+    /** Consultas derivadas das mensagens, calculadas na primeira chamada. */
+    private volatile List<String> mensagens;
+    private volatile Map<String, String> mapaSimples;
     private final boolean deveLancarExcecao = false;
 
     public ResultadoValidacao(boolean valido, Map<String, List<ErrosValidacao>> erros) {
+        this(valido, RegistroErros.de(erros));
+    }
+
+    private ResultadoValidacao(boolean valido, RegistroErros registro) {
         this.valido = valido;
-        Objects.requireNonNull(erros, "Erros não podem ser nulos");
-        this.erros = erros;
+        this.registro = registro;
     }
 
     public boolean valido() {
@@ -27,20 +46,85 @@ public class ResultadoValidacao {
 
     public void lancarSeInvalido() {
         if (!valido) {
-            throw new ValidacaoException(String.join(", ", erros.values().stream()
-                    .flatMap(List::stream)
-                    .map(ErrosValidacao::menssagem)
-                    .toList()));
+            // Sem pilha; as mensagens só são juntadas se alguém ler a exceção.
+            throw new ValidacaoException(() -> String.join(", ", todasMensagemErro()));
         }
     }
 
+    /**
+     * Erros agrupados por campo, na ordem em que cada campo apareceu pela primeira vez.
+     *
+     * @return mapa imutável; campos sem erros não aparecem
+     */
     public Map<String, List<ErrosValidacao>> erros() {
-        return erros;
+        return indice();
+    }
+
+    private Map<String, List<ErrosValidacao>> indice() {
+        return indices().porCampo;
     }
 
+    private Indices indices() {
+        Indices atual = indices;
+        if (atual == null) {
+            atual = new Indices(registro);
+            indices = atual;
+        }
+        return atual;
+    }
+
+    /**
+     * Agrupamentos do registro por campo e por código, montados numa única passada.
+     * As coleções são imutáveis e podem ser devolvidas diretamente pelas consultas.
+     */
+    private static final class Indices {
+        private final Map<String, List<ErrosValidacao>> porCampo;
+        private final Map<String, List<ErrosValidacao>> porCodigo;
+        private final List<String> codigos;
+
+        private Indices(RegistroErros registro) {
+            if (registro.vazio()) {
+                porCampo = Collections.emptyMap();
+                porCodigo = Collections.emptyMap();
+                codigos = Collections.emptyList();
+                return;
+            }
+            Map<String, List<ErrosValidacao>> campos = new LinkedHashMap<>();
+            for (int i = 0; i < registro.tamanho(); i++) {
+                campos.computeIfAbsent(registro.campo(i), campo -> new ArrayList<>()).add(registro.erro(i));
+            }
+            // Códigos na ordem em que aparecem percorrendo os campos agrupados.
+            Map<String, List<ErrosValidacao>> codigosAgrupados = new LinkedHashMap<>();
+            for (List<ErrosValidacao> errosDoCampo : campos.values()) {
+                for (ErrosValidacao erro : errosDoCampo) {
+                    codigosAgrupados.computeIfAbsent(erro.codigo(), codigo -> new ArrayList<>()).add(erro);
+                }
+            }
+            campos.replaceAll((campo, lista) -> Collections.unmodifiableList(lista));
+            codigosAgrupados.replaceAll((codigo, lista) -> Collections.unmodifiableList(lista));
+            porCampo = Collections.unmodifiableMap(campos);
+            porCodigo = Collections.unmodifiableMap(codigosAgrupados);
+            codigos = List.copyOf(codigosAgrupados.keySet());
+        }
+    }
+
+    /**
+     * Substitui os erros deste resultado, alterando-o no lugar.
+     *
+     * <p>Resultados devolvidos por {@link #combinar(ResultadoValidacao)} podem ser uma das
+     * instâncias combinadas ou {@link #VALIDO}; veja a observação sobre aliasing lá.</p>
+     *
+     * @throws UnsupportedOperationException se chamado sobre {@link #VALIDO}
+     */
     public void comErros(Map<String, List<ErrosValidacao>> errosValidacao) {
         Objects.requireNonNull(errosValidacao, "Erros de validação não podem ser nulos");
-        this.erros = errosValidacao;
+        if (this == VALIDO) {
+            throw new UnsupportedOperationException("O resultado válido compartilhado não pode ser alterado");
+        }
+        this.registro = RegistroErros.de(errosValidacao);
+        this.indices = null;
+        this.mensagens = null;
+        this.mapaSimples = null;
     }
 
     public static ResultadoValidacao adicionarErros(Map<String, List<ErrosValidacao>> errosValidacao) {
@@ -56,7 +140,10 @@ public class ResultadoValidacao {
         return new ResultadoValidacao(true, Collections.emptyMap());
     }
     public  static ResultadoValidacao invalidar(String campo, String codigo, String menssagem) {
-        return invalidar(Map.of(campo, List.of(new ErrosValidacao(codigo, menssagem,false))));
+        Objects.requireNonNull(campo, "Campo não pode ser nulo");
+        MetricasValidacao.registrarCampoInvalido(campo);
+        return new ResultadoValidacao(false,
+                RegistroErros.VAZIO.adicionar(campo, List.of(new ErrosValidacao(codigo, menssagem,false))));
     }
 
     public  static ResultadoValidacao invalidar(String campo, List<ErrosValidacao> errosValidacao) {
@@ -65,34 +152,46 @@ public class ResultadoValidacao {
         }
         if(campo==null) throw new IllegalArgumentException("Campo não pode ser vazio ou em branco");
         if(campo.trim().isBlank() || campo.isEmpty()) throw new IllegalArgumentException("Campo não pode ser vazio ou em branco");
-        return invalidar(Map.of(campo, errosValidacao));
+        MetricasValidacao.registrarCampoInvalido(campo);
+        return new ResultadoValidacao(false, RegistroErros.VAZIO.adicionar(campo, errosValidacao));
     }
 
+    /**
+     * Combina este resultado com outro.
+     *
+     * <p>Quando um dos lados é válido e sem erros, devolve o outro lado sem criar um novo
+     * objeto; quando ambos são válidos, devolve {@link #VALIDO}. O resultado pode, portanto,
+     * ser uma das instâncias combinadas. Como {@link #comErros(Map)} altera o objeto em que é
+     * chamado, chamá-lo sobre o resultado de {@code combinar} pode alterar {@code this} ou
+     * {@code outro}, ou lançar {@link UnsupportedOperationException} quando o resultado é
+     * {@link #VALIDO}. Para alterar o resultado, copie-o antes com
+     * {@code ResultadoValidacao.criar(r.valido(), r.erros())}.</p>
+     *
+     * <p>Os erros não são copiados para um novo mapa: o resultado combinado estende o registro
+     * persistente deste resultado com os pares do outro, de modo que dobrar N resultados
+     * em sequência custa O(N) no total.</p>
+     */
     public ResultadoValidacao combinar(ResultadoValidacao outro) {
         if (this.valido && outro.valido) {
-            return validar();
+            return VALIDO;
+        }
+        if (outro.valido && outro.registro.vazio()) {
+            return this;
         }
-        return new ResultadoValidacao(false, mergeErrors(this.erros, outro.erros));
+        if (this.valido && this.registro.vazio()) {
+            return outro;
+        }
+        return new ResultadoValidacao(false, this.registro.concatenar(outro.registro));
     }
     public static ResultadoValidacao criar(boolean valido, Map<String, List<ErrosValidacao>> errosValidacao) {
         return new ResultadoValidacao(valido, errosValidacao);
     }
-   /*
-
-    */
-    private static Map<String, List<ErrosValidacao>> mergeErrors(
-            Map<String, List<ErrosValidacao>> erros,
-            Map<String, List<ErrosValidacao>> outroErros) {
-
-        Map<String, List<ErrosValidacao>> merged = new LinkedHashMap<>();
-        Stream.of(erros, outroErros).forEach(map ->
-                map.forEach((key, value) -> {
-                    merged.merge(key, value, (oldVal, newVal) -> {
-                        oldVal.addAll(newVal);
-                        return oldVal;
-                    });
-                }));
-        return merged;
+
+    /**
+     * Resultado sobre um registro já montado, sem copiá-lo; válido se o registro estiver vazio.
+     */
+    static ResultadoValidacao deRegistro(RegistroErros registro) {
+        return registro.vazio() ? VALIDO : new ResultadoValidacao(false, registro);
     }
 
     /**
@@ -129,8 +228,7 @@ public class ResultadoValidacao {
         if (memsagemErro == null) {
             throw new NullPointerException("O menssagemErro não pode ser nulo");
         }
-        return erros != null && erros.containsKey(campo) &&
-                erros.get(campo).stream().anyMatch(erro -> erro.menssagem().equals(memsagemErro));
+        return errorPorCampo(campo).stream().anyMatch(erro -> erro.menssagem().equals(memsagemErro));
     }
 
 
@@ -142,9 +240,7 @@ public class ResultadoValidacao {
      * @throws NullPointerException if errorCode is null
      */
     public boolean contemCodigoDeErro(String codigoErro) {
-        return erros.values().stream()
-                .flatMap(List::stream)
-                .anyMatch(e -> e.codigo().equals(codigoErro));
+        return indices().porCodigo.containsKey(codigoErro);
     }
 
 
@@ -175,7 +271,7 @@ public class ResultadoValidacao {
      *           as it avoids creating a new list instance for the check.
      */
     public boolean existeErroPorCampo(String campo) {
-        return erros.containsKey(campo) && !erros.get(campo).isEmpty();
+        return indice().containsKey(campo);
     }
 
     /**
@@ -185,7 +281,7 @@ public class ResultadoValidacao {
      * @return immutable list of errors (never null, empty if field doesn't exist)
      */
     public List<ErrosValidacao> errorPorCampo(String campo) {
-        return erros.getOrDefault(campo, emptyList());
+        return indice().getOrDefault(campo, emptyList());
     }
 
     /**
@@ -216,10 +312,12 @@ public class ResultadoValidacao {
      * @see ErrosValidacao#menssagem()
      */
     public List<String> todasMensagemErro() {
-        return erros.values().stream()
-                .flatMap(List::stream)
-                .map(ErrosValidacao::menssagem)
-                .collect(Collectors.toList());
+        List<String> atual = mensagens;
+        if (atual == null) {
+            atual = mensagemFormatadas(ErrosValidacao::menssagem);
+            mensagens = atual;
+        }
+        return atual;
     }
 
     /**
@@ -250,15 +348,11 @@ public class ResultadoValidacao {
      * @see #errorPorCampo(String)
      * @see ErrosValidacao#codigo()
      *
-     * @implNote The current implementation uses {@link Stream#distinct()} which preserves
-     *           the first occurrence of each duplicate element in the encounter order.
+     * @implNote The codes are the keys of the code index, built once per result together
+     *           with the field index, so repeated calls return the same list.
      */
     public List<String> todosCodigoDeErro() {
-        return erros.values().stream()
-                .flatMap(List::stream)
-                .map(ErrosValidacao::codigo)
-                .distinct()
-                .collect(Collectors.toList());
+        return indices().codigos;
     }
 
     /**
@@ -266,19 +360,24 @@ public class ResultadoValidacao {
      *
      * <p>Useful for serialization or simplified display.</p>
      *
-     * @return new non-null map containing for each field a string with all messages
-     *         concatenated by comma
+     * @return immutable non-null map containing for each field a string with all messages
+     *         concatenated by comma, computed once per result
      */
     public Map<String, String> toSimpleErrorMap() {
-        return erros.entrySet().stream()
-                .collect(Collectors.toMap(
-                        Map.Entry::getKey,
-                        e -> e.getValue().stream()
-                                .map(ErrosValidacao::menssagem)
-                                .collect(Collectors.joining(", ")),
-                        (oldVal, newVal) -> oldVal,
-                        LinkedHashMap::new
-                ));
+        Map<String, String> atual = mapaSimples;
+        if (atual == null) {
+            Map<String, String> simples = new LinkedHashMap<>();
+            indice().forEach((campo, errosDoCampo) -> {
+                StringJoiner mensagensDoCampo = new StringJoiner(", ");
+                for (ErrosValidacao erro : errosDoCampo) {
+                    mensagensDoCampo.add(erro.menssagem());
+                }
+                simples.put(campo, mensagensDoCampo.toString());
+            });
+            atual = Collections.unmodifiableMap(simples);
+            mapaSimples = atual;
+        }
+        return atual;
     }
 
     /**
@@ -290,22 +389,22 @@ public class ResultadoValidacao {
      */
     public ResultadoValidacao filtroPorCodigoDeErro(String... errorCodes) {
         Set<String> codes = Set.of(errorCodes);
-        Map<String, List<ErrosValidacao>> filtered = erros.entrySet().stream()
-                .collect(Collectors.toMap(
-                        Map.Entry::getKey,
-                        e -> e.getValue().stream()
-                                .filter(err -> codes.contains(err.codigo()))
-                                .collect(Collectors.toList()),
-                        (oldList, newList) -> {
-                            List<ErrosValidacao> merged = new ArrayList<>(oldList);
-                            merged.addAll(newList);
-                            return merged;
-                        },
-                        LinkedHashMap::new
-                ));
-
-        filtered.values().removeIf(List::isEmpty);
-        return filtered.isEmpty() ? validar() : invalidar(filtered);
+        Map<String, List<ErrosValidacao>> porCodigo = indices().porCodigo;
+        if (codes.stream().noneMatch(porCodigo::containsKey)) {
+            // Novo objeto, e não VALIDO: quem recebe o filtro pode chamar comErros nele.
+            return validar();
+        }
+        RegistroErros filtrado = RegistroErros.VAZIO;
+        for (Map.Entry<String, List<ErrosValidacao>> campo : indice().entrySet()) {
+            List<ErrosValidacao> mantidos = new ArrayList<>();
+            for (ErrosValidacao erro : campo.getValue()) {
+                if (codes.contains(erro.codigo())) {
+                    mantidos.add(erro);
+                }
+            }
+            filtrado = filtrado.adicionar(campo.getKey(), mantidos);
+        }
+        return new ResultadoValidacao(false, filtrado);
     }
 
     /**
@@ -347,7 +446,7 @@ public class ResultadoValidacao {
      * @see Stream
      */
     public Stream<Map.Entry<String, ErrosValidacao>> erroStream() {
-        return erros.entrySet().stream()
+        return indice().entrySet().stream()
                 .flatMap(e -> e.getValue().stream()
                         .map(err -> Map.entry(e.getKey(), err)));
     }
@@ -397,15 +496,10 @@ public class ResultadoValidacao {
      *
      * @see #erroStream()
      * @see #todosCodigoDeErro() ()
-     * @see Collectors#groupingBy(Function, Supplier, Collector)
+     * @see #erros()
      */
     public Map<String,  List<ErrosValidacao>> erroPorCodigo() {
-        return erroStream()
-                .collect(Collectors.groupingBy(
-                        e -> e.getValue().codigo(),
-                        LinkedHashMap::new,
-                        Collectors.mapping(Map.Entry::getValue, Collectors.toList())
-                ));
+        return indices().porCodigo;
     }
 
 
@@ -472,24 +566,52 @@ public class ResultadoValidacao {
      *           possible, they should be handled within the formatter function.
      */
     public List<String> mensagemFormatadas(Function<ErrosValidacao, String> formatador) {
-        return erros.values()
-                .stream()
-                .flatMap(List::stream)
-                .map(formatador)
-                .collect(Collectors.toList());
+        Objects.requireNonNull(formatador, "O formatador não pode ser nulo");
+        if (registro.vazio()) {
+            return Collections.emptyList();
+        }
+        List<String> formatadas = new ArrayList<>(registro.tamanho());
+        for (List<ErrosValidacao> errosDoCampo : indice().values()) {
+            for (ErrosValidacao erro : errosDoCampo) {
+                formatadas.add(formatador.apply(erro));
+            }
+        }
+        return Collections.unmodifiableList(formatadas);
     }
 
     @Override
     public  String toString() {
         return "ResultadoValidacao{" +
                 "valido=" + valido +
-                ", erros=" + erros +
+                ", erros=" + indice() +
 
                 '}';
     }
     public static class ValidacaoException extends RuntimeException {
+        private final transient Supplier<String> mensagemTardia;
+        private volatile String mensagem;
+
         public ValidacaoException(String message) {
             super(message);
+            this.mensagemTardia = null;
+        }
+
+        private ValidacaoException(Supplier<String> mensagemTardia) {
+            super(null, null, false, false);
+            this.mensagemTardia = mensagemTardia;
+        }
+
+        @Override
+        public String getMessage() {
+            if (mensagemTardia == null) {
+                return super.getMessage();
+            }
+            String atual = mensagem;
+            if (atual == null) {
+                atual = mensagemTardia.get();
+                mensagem = atual;
+            }
+            return atual;
         }
     }
 }
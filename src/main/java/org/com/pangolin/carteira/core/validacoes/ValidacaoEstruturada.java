@@ -0,0 +1,244 @@
+package org.com.pangolin.carteira.core.validacoes;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Validação de campos independentes em paralelo, cada um numa thread virtual, sob um escopo
+ * estruturado: a chamada só retorna depois que todas as subtarefas terminaram.
+ *
+ * <p>Serve para regras que esperam por E/S, como consultas a listas de bloqueio ou a contratos
+ * já existentes: a latência de {@link #validar(Object)} passa a ser a da regra mais lenta, não a
+ * soma de todas. Para regras só de CPU, a validação sequencial continua mais barata.</p>
+ *
+ * <ul>
+ *   <li><b>Erro fatal:</b> se uma subtarefa produzir um erro com
+ *       {@link ErrosValidacao#deveLancarExcecao()} ou lançar exceção, as demais são canceladas
+ *       (interrompidas) e a chamada lança {@link Validator.ValidacaoException} com o erro, ou a
+ *       própria exceção.</li>
+ *   <li><b>Prazo:</b> subtarefas que não terminarem no prazo são canceladas, e o campo recebe o
+ *       erro {@link #CODIGO_PRAZO_EXCEDIDO}.</li>
+ *   <li><b>Ordem:</b> os erros são juntados com {@link AcumuladorResultados} na ordem em que as
+ *       regras foram declaradas, independentemente da ordem de término.</li>
+ * </ul>
+ *
+ * <p>Como em {@code StructuredTaskScope}, nenhuma subtarefa sobrevive à chamada: depois de
+ * cancelar, o escopo espera as threads terminarem. Uma regra que ignore interrupções atrasa o
+ * retorno até terminar. O escopo é montado diretamente sobre {@link Thread#ofVirtual()}, sem
+ * depender da API em preview.</p>
+ *
+ * <p><b>Exemplo:</b></p>
+ * <pre>{@code
+ * ValidacaoEstruturada<Pedido> validacao = ValidacaoEstruturada.<Pedido>criar()
+ *         .campo("DOCUMENTO", Pedido::documento, Validacoes.naoContidoEm(bloqueados, "Documento bloqueado"))
+ *         .regra("CONTRATO", pedido -> repositorio.duplicado(pedido) ? erros : List.of())
+ *         .comPrazo(Duration.ofMillis(200))
+ *         .construir();
+ * }</pre>
+ *
+ * @param <E> Tipo da entrada validada
+ */
+public final class ValidacaoEstruturada<E> {
+
+    public static final String CODIGO_PRAZO_EXCEDIDO = "PRAZO_EXCEDIDO";
+
+    private static final ThreadFactory FABRICA = Thread.ofVirtual().name("validacao-estruturada-", 0).factory();
+
+    private final String[] campos;
+    private final Function<E, List<ErrosValidacao>>[] regras;
+    private final String[] camposDistintos;
+    private final Duration prazo;
+    private final List<ErrosValidacao> errosPrazo;
+
+    private ValidacaoEstruturada(Builder<E> builder) {
+        this.campos = builder.campos.toArray(new String[0]);
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        Function<E, List<ErrosValidacao>>[] regras = builder.regras.toArray(new Function[0]);
+        this.regras = regras;
+        Set<String> distintos = new LinkedHashSet<>(builder.campos);
+        this.camposDistintos = distintos.toArray(new String[0]);
+        this.prazo = builder.prazo;
+        this.errosPrazo = CatalogoErros.comoLista(CODIGO_PRAZO_EXCEDIDO,
+                MensagemTemplate.de("A validação do campo não terminou no prazo de %d ms", prazo.toMillis()),
+                false);
+    }
+
+    public static <E> Builder<E> criar() {
+        return new Builder<>();
+    }
+
+    public Duration prazo() {
+        return prazo;
+    }
+
+    /**
+     * Valida a entrada executando cada regra numa thread virtual.
+     *
+     * @throws Validator.ValidacaoException se alguma regra produzir um erro fatal
+     * @throws IllegalStateException se a thread chamadora for interrompida durante a espera
+     */
+    public ResultadoValidacao validar(E entrada) {
+        Objects.requireNonNull(entrada, "Entrada não pode ser nula");
+        int quantidade = regras.length;
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        List<ErrosValidacao>[] resultados = new List[quantidade];
+        CompletableFuture<Void> termino = new CompletableFuture<>();
+        AtomicInteger pendentes = new AtomicInteger(quantidade);
+        Thread[] subtarefas = new Thread[quantidade];
+
+        try {
+            for (int i = 0; i < quantidade; i++) {
+                int indice = i;
+                subtarefas[i] = FABRICA.newThread(() -> executar(entrada, indice, resultados, termino, pendentes));
+                subtarefas[i].start();
+            }
+            termino.get(prazo.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            Throwable causa = e.getCause();
+            if (causa instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (causa instanceof Error erro) {
+                throw erro;
+            }
+            throw new IllegalStateException(causa);
+        } catch (TimeoutException e) {
+            // A partir daqui nenhum resultado é aceito; os campos sem resultado recebem o erro
+            // de prazo ao juntar.
+            synchronized (resultados) {
+                termino.cancel(false);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Validação interrompida");
+        } finally {
+            encerrar(subtarefas);
+        }
+        return juntar(resultados);
+    }
+
+    /**
+     * Interrompe as subtarefas ainda em andamento e espera todas terminarem.
+     */
+    private static void encerrar(Thread[] subtarefas) {
+        for (Thread subtarefa : subtarefas) {
+            if (subtarefa != null) {
+                subtarefa.interrupt();
+            }
+        }
+        boolean interrompida = false;
+        for (Thread subtarefa : subtarefas) {
+            while (subtarefa != null) {
+                try {
+                    subtarefa.join();
+                    break;
+                } catch (InterruptedException e) {
+                    interrompida = true;
+                }
+            }
+        }
+        if (interrompida) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void executar(E entrada, int indice, List<ErrosValidacao>[] resultados,
+                          CompletableFuture<Void> termino, AtomicInteger pendentes) {
+        try {
+            List<ErrosValidacao> erros = Objects.requireNonNull(regras[indice].apply(entrada),
+                    "A regra devolveu erros nulos");
+            for (ErrosValidacao erro : erros) {
+                if (erro.deveLancarExcecao()) {
+                    termino.completeExceptionally(Validator.ValidacaoException.deErroFatal(erro));
+                    return;
+                }
+            }
+            synchronized (resultados) {
+                if (termino.isDone()) {
+                    return;
+                }
+                resultados[indice] = erros;
+            }
+            if (pendentes.decrementAndGet() == 0) {
+                termino.complete(null);
+            }
+        } catch (Throwable t) {
+            termino.completeExceptionally(t);
+        }
+    }
+
+    private ResultadoValidacao juntar(List<ErrosValidacao>[] resultados) {
+        AcumuladorResultados acumulador = AcumuladorResultados.comCampos(camposDistintos);
+        synchronized (resultados) {
+            for (int i = 0; i < resultados.length; i++) {
+                acumulador.publicar(campos[i], resultados[i] == null ? errosPrazo : resultados[i]);
+            }
+        }
+        return acumulador.selar();
+    }
+
+    /**
+     * Regras de uma {@link ValidacaoEstruturada}, na ordem em que os seus erros aparecem.
+     *
+     * @param <E> Tipo da entrada validada
+     */
+    public static final class Builder<E> {
+        private final List<String> campos = new ArrayList<>();
+        private final List<Function<E, List<ErrosValidacao>>> regras = new ArrayList<>();
+        private Duration prazo = Duration.ofSeconds(5);
+
+        private Builder() {}
+
+        /**
+         * Valida um campo extraído da entrada.
+         */
+        public <T> Builder<E> campo(String campo, Function<? super E, ? extends T> extrator, Validator<T> validador) {
+            Objects.requireNonNull(extrator, "Extrator não pode ser nulo");
+            Objects.requireNonNull(validador, "Validador não pode ser nulo");
+            return regra(campo, entrada -> validador.validar(extrator.apply(entrada)));
+        }
+
+        /**
+         * Regra sobre a entrada inteira, cujos erros são registrados sob {@code campo}.
+         */
+        public Builder<E> regra(String campo, Function<? super E, List<ErrosValidacao>> regra) {
+            if (campo == null || campo.isBlank()) {
+                throw new IllegalArgumentException("Campo não pode ser vazio ou em branco");
+            }
+            Objects.requireNonNull(regra, "Regra não pode ser nula");
+            campos.add(campo);
+            regras.add(regra::apply);
+            return this;
+        }
+
+        /**
+         * Prazo total da validação; 5 segundos por padrão.
+         */
+        public Builder<E> comPrazo(Duration prazo) {
+            Objects.requireNonNull(prazo, "Prazo não pode ser nulo");
+            if (prazo.isNegative() || prazo.isZero()) {
+                throw new IllegalArgumentException("O prazo deve ser maior que zero");
+            }
+            this.prazo = prazo;
+            return this;
+        }
+
+        public ValidacaoEstruturada<E> construir() {
+            if (regras.isEmpty()) {
+                throw new IllegalStateException("A validação estruturada precisa de ao menos uma regra");
+            }
+            return new ValidacaoEstruturada<>(this);
+        }
+    }
+}
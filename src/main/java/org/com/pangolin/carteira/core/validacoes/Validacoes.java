@@ -38,13 +38,19 @@ public final class Validacoes {
     public static final Validator<BigDecimal> MAIOR_QUE_ZERO =
             Validator.of(v -> v.compareTo(BigDecimal.ZERO) > 0, "O valor deve ser maior que zero");
 
+    private static final Validator<List<?>> LISTA_NAO_VAZIA =
+            Validator.of(list -> !list.isEmpty(), "A lista não pode ser vazia");
+
     // Correção: usando método genérico estático
+    @SuppressWarnings("unchecked")
     public static <T> Validator<List<T>> listaNaoVazia() {
-        return Validator.of(list -> !list.isEmpty(), "A lista não pode ser vazia");
+        return (Validator<List<T>>) (Validator<?>) LISTA_NAO_VAZIA;
     }
 
     /**
-     * Validador que verifica se um elemento NÃO está presente na lista fornecida
+     * Validador que verifica se um elemento NÃO está presente na lista fornecida.
+     * A coleção é consultada a cada validação; para listas grandes, prefira
+     * {@link #naoContidoEm(ConjuntoReferencia, String)}
      * @param <T> Tipo do elemento
      * @param coleção Lista onde verificar a ausência do elemento
      * @param mensagemErro Mensagem de erro personalizada (opcional)
@@ -65,6 +71,27 @@ public final class Validacoes {
     public static <T> Validator<T> naoContidoEm(Collection<? extends T> colecao) {
         return naoContidoEm(colecao, null);
     }
+
+    /**
+     * Validador que verifica se um elemento NÃO está no conjunto de referência indexado.
+     *
+     * <p>Ao contrário de {@link #naoContidoEm(Collection, String)}, que consulta a coleção a cada
+     * validação, a consulta é sempre O(1) e acompanha as atualizações do conjunto
+     * ({@link ConjuntoReferencia#atualizar(Collection)}).</p>
+     * @param conjunto Conjunto de referência, como uma lista de bloqueio
+     * @param mensagemErro Mensagem de erro personalizada (opcional)
+     * @return Validator configurado
+     */
+    public static <T> Validator<T> naoContidoEm(ConjuntoReferencia<? extends T> conjunto, String mensagemErro) {
+        Objects.requireNonNull(conjunto, "Conjunto não pode ser nulo");
+        String mensagem = mensagemErro != null ? mensagemErro :
+                "O elemento não pode estar presente na coleção fornecida";
+
+        return Validator.of(
+                elemento -> !conjunto.contem(elemento),
+                mensagem
+        );
+    }
     /**
      * Validador que verifica se nenhum elemento da coleção atende ao predicado
      * @param coleção Coleção a verificar
@@ -95,14 +122,14 @@ public final class Validacoes {
      */
     public static <T, R extends T> Validator<R> evolveValidator(
             Validator<T> validator, Class<R> targetType) {
-        return validator::validar;
+        return validator.evolveTo(targetType);
     }
 
     /** Validador que verifica se o valor é não nulo e não vazio
      * @return Validator configurado para String
      */
     public static Validator<String> stringNaoNulaNemVazia() {
-        return evolveValidator(NAO_NULO, String.class).and(NAO_VAZIO);
+        return NAO_NULO_NEM_VAZIO;
     }
 
     /**
@@ -112,24 +139,26 @@ public final class Validacoes {
      * @return Validator configurado
      */
     public static <T extends Comparable<T>> Validator<T> maiorQue(T limite) {
-        return Validator.of(
+        return CacheValidadores.obter("maiorQue", () -> Validator.of(
                 v -> v.compareTo(limite) > 0,
-                "O valor deve ser maior que " + limite
-        );
+                MensagemTemplate.de("O valor deve ser maior que %s", limite)
+        ), limite);
     }
 
     public static <T extends Number & Comparable<T>> Validator<T> val_intervalo(T min, T max) {
-        return Validator.of(
+        return CacheValidadores.obter("val_intervalo", () -> Validator.of(
                 n -> n.compareTo(min) >= 0 && n.compareTo(max) <= 0,
-                String.format("Deve estar entre %s e %s", min, max)
-        );
+                MensagemTemplate.de("Deve estar entre %s e %s", min, max)
+        ), min, max);
     }
 
+    private static final Validator<String> STR_NAO_VAZIA = Validator.of(
+            s -> !s.isEmpty(),
+            "A string não pode ser vazia"
+    );
+
     public static Validator<String> val_str_nao_vazia() {
-        return Validator.of(
-                s -> !s.isEmpty(),
-                "A string não pode ser vazia"
-        );
+        return STR_NAO_VAZIA;
     }
     /**
      * Validador que verifica se o valor é menor que o limite especificado
@@ -145,46 +174,61 @@ public final class Validacoes {
      * @return Validator configurado
      */
 
+    private static final Validator<LocalDate> DATA_FUTURA = Validator.of(
+            date -> date.isAfter(LocalDate.now()),
+            "A data deve ser futura"
+    );
+
     public static Validator<LocalDate> val_data_futura() {
-        return Validator.of(
-                date -> date.isAfter(LocalDate.now()),
-                "A data deve ser futura"
-        );
+        return DATA_FUTURA;
     }
     /*
         * Validador que verifica se a data é passada (anterior a hoje)
      */
+    private static final Validator<LocalDate> DATA_PASSADA = Validator.of(
+            date -> date.isBefore(LocalDate.now()),
+            "A data deve ser passada"
+    );
+
     public static Validator<LocalDate> val_data_passada() {
-        return Validator.of(
-                date -> date.isBefore(LocalDate.now()),
-                "A data deve ser passada"
-        );
+        return DATA_PASSADA;
     }
 
+    private static final Validator<Number> NUM_POSITIVO = Validator.of(
+            n -> n.doubleValue() > 0,
+            "O número deve ser positivo"
+    );
+
+    @SuppressWarnings("unchecked")
     public static <T extends Number & Comparable<T>> Validator<T> val_num_positivo() {
-        return Validator.of(
-                n -> n.doubleValue() > 0,
-                "O número deve ser positivo"
-        );
+        return (Validator<T>) (Validator<?>) NUM_POSITIVO;
     }
 
 
     public static <T extends CharSequence> Validator<T> val_tam_min(int min) {
-        return Validator.of(
+        return CacheValidadores.obter("val_tam_min", () -> Validator.of(
                 s -> s.length() >= min,
-                String.format("Deve ter no mínimo %d caracteres", min)
-        );
+                MensagemTemplate.de("Deve ter no mínimo %d caracteres", min)
+        ), min);
     }
 
 
     public static Validator<String> val_regex(String regex) {
-        return Validator.of(
-                s -> s.matches(regex),
+        return CacheValidadores.obter("val_regex", () -> Validator.of(
+                PadroesRegex.predicado(regex),
                 "Não corresponde ao padrão requerido"
-        );
+        ), regex);
     }
 
+    private static final Validator<List<Comparable<Object>>> LISTA_CRESCENTE = Validacoes.<Comparable<Object>>listaOrdenada(true);
+    private static final Validator<List<Comparable<Object>>> LISTA_DECRESCENTE = Validacoes.<Comparable<Object>>listaOrdenada(false);
+
+    @SuppressWarnings("unchecked")
     public static <T extends Comparable<T>> Validator<List<T>> val_lista_ordenada(boolean crescente) {
+        return (Validator<List<T>>) (Validator<?>) (crescente ? LISTA_CRESCENTE : LISTA_DECRESCENTE);
+    }
+
+    private static <T extends Comparable<? super T>> Validator<List<T>> listaOrdenada(boolean crescente) {
         return Validator.of(
                 list -> {
                     for (int i = 0; i < list.size() - 1; i++) {
@@ -204,6 +248,18 @@ public final class Validacoes {
                 msgErro
         );
     }
+
+    /**
+     * Versão paralela de {@link #val_lista_nenhum_atende(Predicate, String)}: a busca para assim
+     * que algum elemento atende a condição.
+     */
+    public static <T> Validator<List<T>> val_lista_nenhum_atende(Predicate<T> condicao, String msgErro,
+                                                               ConfiguracaoParalela configuracao) {
+        return Validator.of(
+                list -> !VarreduraParalela.algum(list, condicao, configuracao),
+                msgErro
+        );
+    }
     public static <T> Validator<List<T>> val_lista_algum_atende(Predicate<T> condicao, String msgErro) {
         return Validator.of(
                 list -> list.stream().anyMatch(condicao),
@@ -211,42 +267,83 @@ public final class Validacoes {
         );
     }
 
+    /**
+     * Versão paralela de {@link #val_lista_algum_atende(Predicate, String)}: a busca para assim
+     * que algum elemento atende a condição.
+     */
+    public static <T> Validator<List<T>> val_lista_algum_atende(Predicate<T> condicao, String msgErro,
+                                                              ConfiguracaoParalela configuracao) {
+        return Validator.of(
+                list -> VarreduraParalela.algum(list, condicao, configuracao),
+                msgErro
+        );
+    }
+
     public static <T> Validator<List<T>> val_lista_todos_atendem(Predicate<T> condicao, String msgErro) {
         return Validator.of(
                 list -> list.stream().allMatch(condicao),
                 msgErro
         );
     }
+
+    /**
+     * Versão paralela de {@link #val_lista_todos_atendem(Predicate, String)}: a busca para no
+     * primeiro elemento que não atende a condição.
+     */
+    public static <T> Validator<List<T>> val_lista_todos_atendem(Predicate<T> condicao, String msgErro,
+                                                               ConfiguracaoParalela configuracao) {
+        Predicate<T> naoAtende = condicao.negate();
+        return Validator.of(
+                list -> !VarreduraParalela.algum(list, naoAtende, configuracao),
+                msgErro
+        );
+    }
+    private static final Validator<List<?>> LISTA_SEM_NULOS = Validator.of(
+            list -> list.stream().noneMatch(Objects::isNull),
+            "A lista não pode conter elementos nulos"
+    );
+
+    @SuppressWarnings("unchecked")
     public static <T> Validator<List<T>> val_lista_sem_nulos() {
+        return (Validator<List<T>>) (Validator<?>) LISTA_SEM_NULOS;
+    }
+
+    /**
+     * Versão paralela de {@link #val_lista_sem_nulos()}.
+     */
+    public static <T> Validator<List<T>> val_lista_sem_nulos(ConfiguracaoParalela configuracao) {
         return Validator.of(
-                list -> list.stream().noneMatch(Objects::isNull),
+                list -> !VarreduraParalela.algum(list, Objects::isNull, configuracao),
                 "A lista não pode conter elementos nulos"
         );
     }
 
     public static <T> Validator<List<T>> val_lista_tam_exato(int tamanho) {
-        return Validator.of(
+        return CacheValidadores.obter("val_lista_tam_exato", () -> Validator.of(
                 list -> list.size() == tamanho,
-                String.format("A lista deve ter exatamente %d elementos", tamanho)
-        );
+                MensagemTemplate.de("A lista deve ter exatamente %d elementos", tamanho)
+        ), tamanho);
     }
     public static <T> Validator<List<T>> val_lista_tam_max(int max) {
-        return Validator.of(
+        return CacheValidadores.obter("val_lista_tam_max", () -> Validator.of(
                 list -> list.size() <= max,
-                String.format("A lista não pode ter mais que %d elementos", max)
-        );
+                MensagemTemplate.de("A lista não pode ter mais que %d elementos", max)
+        ), max);
     }
     public static <T> Validator<List<T>> val_lista_tam_min(int min) {
-        return Validator.of(
+        return CacheValidadores.obter("val_lista_tam_min", () -> Validator.of(
                 list -> list.size() >= min,
-                String.format("A lista deve ter no mínimo %d elementos", min)
-        );
+                MensagemTemplate.de("A lista deve ter no mínimo %d elementos", min)
+        ), min);
     }
+    private static final Validator<List<?>> LISTA_NAO_NULA = Validator.of(
+            Objects::nonNull,
+            "A lista não pode ser nula"
+    );
+
+    @SuppressWarnings("unchecked")
     public static <T> Validator<List<T>> val_lista_nao_nula() {
-        return Validator.of(
-                Objects::nonNull,
-                "A lista não pode ser nula"
-        );
+        return (Validator<List<T>>) (Validator<?>) LISTA_NAO_NULA;
     }
 
     /**
@@ -256,13 +353,28 @@ public final class Validacoes {
      * @return Validador configurado
      */
     public static <T extends Comparable<T>> Validator<List<T>> val_lista_max_maior_que(T x) {
-        return Validator.of(
+        return CacheValidadores.obter("val_lista_max_maior_que", () -> Validator.of(
                 list -> {
                     if (list == null || list.isEmpty()) return false;
                     T max = Collections.max(list);
                     return max.compareTo(x) > 0;
                 },
-                String.format("O maior elemento da lista deve ser maior que %s", x)
+                MensagemTemplate.de("O maior elemento da lista deve ser maior que %s", x)
+        ), x);
+    }
+
+    /**
+     * Versão paralela de {@link #val_lista_max_maior_que(Comparable)}: o maior elemento é
+     * reduzido por partes.
+     */
+    public static <T extends Comparable<T>> Validator<List<T>> val_lista_max_maior_que(T x,
+                                                                                      ConfiguracaoParalela configuracao) {
+        return Validator.of(
+                list -> {
+                    if (list == null || list.isEmpty()) return false;
+                    return VarreduraParalela.maximo(list, configuracao).compareTo(x) > 0;
+                },
+                MensagemTemplate.de("O maior elemento da lista deve ser maior que %s", x)
         );
     }
 
@@ -273,32 +385,51 @@ public final class Validacoes {
      * @return Validador configurado
      */
     public static <T extends Comparable<T>> Validator<List<T>> val_lista_min_menor_que(T y) {
-        return Validator.of(
+        return CacheValidadores.obter("val_lista_min_menor_que", () -> Validator.of(
                 list -> {
                     if (list == null || list.isEmpty()) return false;
                     T min = Collections.min(list);
                     return min.compareTo(y) < 0;
                 },
-                String.format("O menor elemento da lista deve ser menor que %s", y)
+                MensagemTemplate.de("O menor elemento da lista deve ser menor que %s", y)
+        ), y);
+    }
+
+    /**
+     * Versão paralela de {@link #val_lista_min_menor_que(Comparable)}: o menor elemento é
+     * reduzido por partes.
+     */
+    public static <T extends Comparable<T>> Validator<List<T>> val_lista_min_menor_que(T y,
+                                                                                      ConfiguracaoParalela configuracao) {
+        return Validator.of(
+                list -> {
+                    if (list == null || list.isEmpty()) return false;
+                    return VarreduraParalela.minimo(list, configuracao).compareTo(y) < 0;
+                },
+                MensagemTemplate.de("O menor elemento da lista deve ser menor que %s", y)
         );
     }
 
+    /**
+     * Inicia um {@link PlanoLista}, que avalia várias regras de lista numa única passagem
+     * com os mesmos erros das regras separadas.
+     */
+    public static <T> PlanoLista.Builder<T> val_lista_fundida() {
+        return PlanoLista.criar();
+    }
+
     @SafeVarargs
     public static <T> Validator<T> val_compor(Validator<T>... validadores) {
-        return value -> {
-            List<ErrosValidacao> consolidado = new ArrayList<>();
-            for (Validator<T> validador : validadores) {
-                List<ErrosValidacao> resultado = validador.validar(value);
-                if (!resultado.isEmpty()) {
-                    consolidado.addAll(resultado);
-
-                }
-            }
-            return consolidado;
-        };
+        Objects.requireNonNull(validadores, "Validadores não podem ser nulos");
+        // Só os elementos são lidos: repassar o array de varargs anularia o @SafeVarargs.
+        List<Validator<T>> sequencia = new ArrayList<>(validadores.length);
+        for (Validator<T> validador : validadores) {
+            sequencia.add(validador);
+        }
+        return ValidadorCompilado.sequencia(sequencia);
     }
     public static <T extends Comparable<T>> Validator<List<T>> val_lista_intervalo_extremos(T minReferencia, T maxReferencia) {
-        return Validator.of(
+        return CacheValidadores.obter("val_lista_intervalo_extremos", () -> Validator.of(
                 list -> {
                     if (list == null || list.isEmpty()) return false;
 
@@ -312,8 +443,8 @@ public final class Validacoes {
 
                     return min.compareTo(minReferencia) < 0 && max.compareTo(maxReferencia) > 0;
                 },
-                String.format("Elementos devem ter mínimo < %s e máximo > %s", minReferencia, maxReferencia)
-        );
+                MensagemTemplate.de("Elementos devem ter mínimo < %s e máximo > %s", minReferencia, maxReferencia)
+        ), minReferencia, maxReferencia);
     }
     /**
    * Valida se os elementos de uma lista estão ordenados conforme a prioridade definida
@@ -365,8 +496,12 @@ public final class Validacoes {
                 mensagemErro
         );
     }
+    private static final Validator<List<Comparable<Object>>> LISTA_ORDEM_NATURAL =
+            val_lista_ordem_prioridade(Comparator.<Comparable<Object>>naturalOrder().reversed());
+
+    @SuppressWarnings("unchecked")
     public static <T extends Comparable<T>> Validator<List<T>> val_lista_ordem_natural() {
-        return val_lista_ordem_prioridade((Comparator<T>) Comparator.naturalOrder().reversed());
+        return (Validator<List<T>>) (Validator<?>) LISTA_ORDEM_NATURAL;
     }
 
     /**
@@ -375,13 +510,13 @@ public final class Validacoes {
      * @return Validador configurado
      */
     public static Validator<LocalDate> val_data_antes_de(int dias) {
-        return Validator.of(
+        return CacheValidadores.obter("val_data_antes_de", () -> Validator.of(
                 data -> {
                     Objects.requireNonNull(data, "Data não pode ser nula");
                     return data.isBefore(LocalDate.now().plusDays(dias));
                 },
-                String.format("A data deve ser anterior a %d dias a partir de hoje", dias)
-        );
+                MensagemTemplate.de("A data deve ser anterior a %d dias a partir de hoje", dias)
+        ), dias);
     }
     /**
      * Valida se a data é posterior à data atual com offset
@@ -389,13 +524,13 @@ public final class Validacoes {
      * @return Validador configurado
      */
     public static Validator<LocalDate> val_data_depois_de(int dias) {
-        return Validator.of(
+        return CacheValidadores.obter("val_data_depois_de", () -> Validator.of(
                 data -> {
                     Objects.requireNonNull(data, "Data não pode ser nula");
                     return data.isAfter(LocalDate.now().minusDays(dias));
                 },
-                String.format("A data deve ser posterior a %d dias antes de hoje", dias)
-        );
+                MensagemTemplate.de("A data deve ser posterior a %d dias antes de hoje", dias)
+        ), dias);
     }
 
     /**
@@ -405,27 +540,44 @@ public final class Validacoes {
      * @return Validador configurado
      */
     public static Validator<LocalDate> val_data_no_periodo(int diasAntes, int diasDepois) {
-        return Validator.of(
+        return CacheValidadores.obter("val_data_no_periodo", () -> Validator.of(
                 data -> {
                     Objects.requireNonNull(data, "Data não pode ser nula");
                     LocalDate inicio = LocalDate.now().minusDays(diasAntes);
                     LocalDate fim = LocalDate.now().plusDays(diasDepois);
                     return !data.isBefore(inicio) && !data.isAfter(fim);
                 },
-                String.format("A data deve estar entre %d dias antes e %d dias depois de hoje",
+                MensagemTemplate.de("A data deve estar entre %d dias antes e %d dias depois de hoje",
                         diasAntes, diasDepois)
-        );
+        ), diasAntes, diasDepois);
     }
-    /** Validador que verifica se o valor é menor que o limite especificado
-     * @param limite Limite para comparação
-     * @param <T> Tipo do valor (deve implementar Comparable)
+    /**
+     * Validador do id da carteira: não nulo, não em branco, prefixo {@code WALLET-}, ao menos
+     * 10 caracteres e ao menos um dígito. Produz os mesmos erros de {@link #carteiraIdEncadeado}
+     * numa única passada pela string.
+     * @param codido Código do erro de id nulo
      * @return Validator configurado
      */
     public static Validator<String> carteiraId(String codido) {
+        Objects.requireNonNull(codido, "Código do erro não pode ser nulo");
+        return ValidadorCarteiraId.INSTANCIA;
+    }
+
+    /**
+     * Versão de {@link #carteiraId(String)} composta por seis validadores encadeados com
+     * {@link Validator#and}. Mantida como referência de comportamento e para comparação de desempenho.
+     * @param codido Código do erro de id nulo
+     * @return Validator configurado
+     */
+    public static Validator<String> carteiraIdEncadeado(String codido) {
+        return CacheValidadores.obter("carteiraIdEncadeado", () -> carteiraIdEncadeadoSemCache(codido), codido);
+    }
+
+    private static Validator<String> carteiraIdEncadeadoSemCache(String codido) {
         return  Validator.<String>of(Objects::nonNull, codido, "ID não pode ser nulo", true)
                 .and(notBlankValidator())
                 .and(startsWithPrefixValidator())
-                .and(minLengthValidator(10))
+                .and(minLengthValidator(ValidadorCarteiraId.TAMANHO_MINIMO))
                 .and(notLettersOnlyValidator())
                 .and(notLettersOnlyValidatorRegex());
     }
@@ -436,26 +588,39 @@ public final class Validacoes {
     }
 
     private static Validator<String> startsWithPrefixValidator() {
-        return Validator.of(s -> s.startsWith("WALLET-"), "ID não poder começar com Carteira - prefixo");
+        return Validator.of(s -> s.startsWith(ValidadorCarteiraId.PREFIXO), "ID não poder começar com Carteira - prefixo");
     }
 
     private static Validator<String> minLengthValidator(int minLength) {
         return Validator.of(s -> s.length() >= minLength,
-                "O Id da Carteira deve ter um comprimento minimo  " + minLength + "caracteres");
+                MensagemTemplate.de("O Id da Carteira deve ter um comprimento minimo  %scaracteres", minLength));
     }
     private static Validator<String> notLettersOnlyValidator() {
         return Validator.of(
-                s -> s.chars().anyMatch(Character::isDigit),
+                Validacoes::contemDigito,
                 "O Id da Carteira deve conter pelo menos um caractere numérico"
         );
     }
     private static Validator<String> notLettersOnlyValidatorRegex() {
         return Validator.of(
-                s -> s.matches(".*[0-9].*"),
+                PadroesRegex.predicado(".*[0-9].*"),
                 "O Id da Carteira deve conter pelo menos um caractere numérico"
         );
     }
 
+    /**
+     * Equivalente a {@code s.chars().anyMatch(Character::isDigit)}, sem criar o stream.
+     */
+    private static boolean contemDigito(String s) {
+        for (int i = 0; i < s.length(); i++) {
+            if (Character.isDigit(s.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+
 
 
 }
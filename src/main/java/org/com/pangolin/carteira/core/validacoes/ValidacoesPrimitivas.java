@@ -0,0 +1,106 @@
+package org.com.pangolin.carteira.core.validacoes;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+/**
+ * Fábricas de validadores numéricos sem boxing, equivalentes às regras numéricas de
+ * {@link Validacoes} ({@link Validacoes#POSITIVO}, {@link Validacoes#maiorQue},
+ * {@link Validacoes#val_intervalo}, {@link Validacoes#MAIOR_QUE_ZERO}).
+ *
+ * <p>Valores monetários são tratados em ponto fixo, como {@code long} de centavos: a conversão
+ * por {@link #centavos(BigDecimal)} é exata e rejeita mais de duas casas decimais.</p>
+ */
+public final class ValidacoesPrimitivas {
+    private ValidacoesPrimitivas() {}
+
+    public static final IntValidator INT_POSITIVO =
+            IntValidator.of(v -> v >= 0, "O valor deve ser positivo");
+
+    public static final LongValidator LONG_POSITIVO =
+            LongValidator.of(v -> v >= 0, "O valor deve ser positivo");
+
+    public static final DoubleValidator DOUBLE_POSITIVO =
+            DoubleValidator.of(v -> v >= 0, "O valor deve ser positivo");
+
+    /** Centavos maiores que zero, como {@link Validacoes#MAIOR_QUE_ZERO} para o valor em reais. */
+    public static final LongValidator CENTAVOS_MAIOR_QUE_ZERO =
+            LongValidator.of(v -> v > 0, "O valor deve ser maior que zero");
+
+    public static IntValidator intMaiorQue(int limite) {
+        return CacheValidadores.obter("intMaiorQue", () -> IntValidator.of(
+                v -> v > limite,
+                MensagemTemplate.de("O valor deve ser maior que %s", limite)
+        ), limite);
+    }
+
+    public static IntValidator intNoIntervalo(int min, int max) {
+        return CacheValidadores.obter("intNoIntervalo", () -> IntValidator.of(
+                v -> v >= min && v <= max,
+                MensagemTemplate.de("Deve estar entre %s e %s", min, max)
+        ), min, max);
+    }
+
+    public static LongValidator longMaiorQue(long limite) {
+        return CacheValidadores.obter("longMaiorQue", () -> LongValidator.of(
+                v -> v > limite,
+                MensagemTemplate.de("O valor deve ser maior que %s", limite)
+        ), limite);
+    }
+
+    public static LongValidator longNoIntervalo(long min, long max) {
+        return CacheValidadores.obter("longNoIntervalo", () -> LongValidator.of(
+                v -> v >= min && v <= max,
+                MensagemTemplate.de("Deve estar entre %s e %s", min, max)
+        ), min, max);
+    }
+
+    public static DoubleValidator doubleMaiorQue(double limite) {
+        return CacheValidadores.obter("doubleMaiorQue", () -> DoubleValidator.of(
+                v -> v > limite,
+                MensagemTemplate.de("O valor deve ser maior que %s", limite)
+        ), limite);
+    }
+
+    public static DoubleValidator doubleNoIntervalo(double min, double max) {
+        return CacheValidadores.obter("doubleNoIntervalo", () -> DoubleValidator.of(
+                v -> v >= min && v <= max,
+                MensagemTemplate.de("Deve estar entre %s e %s", min, max)
+        ), min, max);
+    }
+
+    /**
+     * Valida centavos entre os limites informados em reais; a mensagem mostra os valores em reais.
+     */
+    public static LongValidator centavosNoIntervalo(BigDecimal min, BigDecimal max) {
+        long minimo = centavos(min);
+        long maximo = centavos(max);
+        return CacheValidadores.obter("centavosNoIntervalo", () -> LongValidator.of(
+                v -> v >= minimo && v <= maximo,
+                MensagemTemplate.de("Deve estar entre %s e %s", min, max)
+        ), min, max);
+    }
+
+    /**
+     * Converte um valor em reais para centavos.
+     *
+     * @throws ArithmeticException se o valor tiver mais de duas casas decimais ou não couber em {@code long}
+     */
+    public static long centavos(BigDecimal valor) {
+        Objects.requireNonNull(valor, "Valor não pode ser nulo");
+        return valor.movePointRight(2).longValueExact();
+    }
+
+    /**
+     * Converte os valores para um array de centavos, para validação em lote sem boxing.
+     *
+     * @throws ArithmeticException se algum valor tiver mais de duas casas decimais
+     */
+    public static long[] centavos(BigDecimal... valores) {
+        long[] centavos = new long[valores.length];
+        for (int i = 0; i < valores.length; i++) {
+            centavos[i] = centavos(valores[i]);
+        }
+        return centavos;
+    }
+}
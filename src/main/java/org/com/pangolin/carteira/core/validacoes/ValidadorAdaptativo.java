@@ -0,0 +1,295 @@
+package org.com.pangolin.carteira.core.validacoes;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Plano compilado em modo {@link ModoAvaliacao#PRIMEIRA_FALHA} que reordena as suas regras
+ * conforme o custo e a taxa de rejeição observados.
+ *
+ * <p>Com interrupção na primeira falha, o custo esperado de uma avaliação é menor quando as
+ * regras baratas que reprovam com frequência vêm antes das caras que quase nunca reprovam. Uma
+ * fração das avaliações ({@code 1/taxaAmostragem}) é amostrada: todas as regras são executadas
+ * e cronometradas, e a rejeição de cada uma é contada. A cada {@code amostrasPorReordenacao}
+ * amostras, as regras livres são ordenadas pela razão custo médio / taxa de rejeição, que é a
+ * ordem de menor custo esperado para regras independentes. A ordem vigente é publicada numa
+ * escrita volátil e pode ser consultada em {@link #ordemEfetiva()}.</p>
+ *
+ * <p>O resultado é o de {@link ValidadorCompilado#comModo(ModoAvaliacao)} com
+ * {@link ModoAvaliacao#PRIMEIRA_FALHA}, exceto que os erros devolvidos são os da primeira regra
+ * que falhar <i>na ordem efetiva</i>. A validade do valor não depende da ordem. Ficam fixas na
+ * posição original:</p>
+ * <ul>
+ *   <li>as regras marcadas com {@link #ordemFixa(Validator)}, que também servem de barreira: as
+ *       demais regras nunca passam de um lado para o outro delas;</li>
+ *   <li>o lado direito de cada {@link Validator#andThenIfValid(Validator)};</li>
+ *   <li>os trechos em que uma regra lançou exceção fora da ordem original, sinal de que ela
+ *       depende das anteriores (como uma regra de tamanho depois de {@code NAO_NULO}). O valor
+ *       é então reavaliado na ordem original, e o trecho não é mais reordenado.</li>
+ * </ul>
+ *
+ * <p>As estatísticas são atualizadas sem sincronização entre threads; perdas ocasionais de
+ * contagem só afetam a heurística, nunca o resultado.</p>
+ *
+ * @param <T> Tipo do objeto a ser validado
+ */
+public final class ValidadorAdaptativo<T> implements Validator<T> {
+
+    static final int TAXA_AMOSTRAGEM_PADRAO = 64;
+    static final int AMOSTRAS_POR_REORDENACAO_PADRAO = 256;
+
+    private final ValidadorCompilado<T> original;
+    private final Validator<?>[] regras;
+    /** Se um erro fatal da regra é lançado, por estar sob algum ponto de verificação do plano. */
+    private final boolean[] lancaFatal;
+    /** Trechos [inicio, fim) de regras livres para reordenação, separados pelas regras fixas. */
+    private final int[][] trechos;
+    private final boolean[] trechoFixado;
+    private final int[] trechoDaRegra;
+    private final int taxaAmostragem;
+    private final int amostrasPorReordenacao;
+
+    private final long[] execucoes;
+    private final long[] rejeicoes;
+    private final long[] nanos;
+    private final AtomicInteger amostrasPendentes = new AtomicInteger();
+    private final AtomicBoolean reordenando = new AtomicBoolean();
+    private volatile int[] ordem;
+
+    ValidadorAdaptativo(ValidadorCompilado<T> plano, int taxaAmostragem, int amostrasPorReordenacao) {
+        if (taxaAmostragem < 1 || amostrasPorReordenacao < 1) {
+            throw new IllegalArgumentException("A taxa de amostragem e o intervalo de reordenação devem ser maiores que zero");
+        }
+        this.original = plano.comModo(ModoAvaliacao.PRIMEIRA_FALHA);
+        this.regras = plano.regras();
+        this.lancaFatal = plano.regrasSobVerificacao();
+        this.taxaAmostragem = taxaAmostragem;
+        this.amostrasPorReordenacao = amostrasPorReordenacao;
+        this.execucoes = new long[regras.length];
+        this.rejeicoes = new long[regras.length];
+        this.nanos = new long[regras.length];
+
+        boolean[] fixa = new boolean[regras.length];
+        for (int i = 0; i < regras.length; i++) {
+            fixa[i] |= regras[i] instanceof OrdemFixa<?>;
+            if (plano.condicao(i) >= 0) {
+                Arrays.fill(fixa, i, plano.salto(i), true);
+            }
+        }
+        List<int[]> livres = new ArrayList<>();
+        this.trechoDaRegra = new int[regras.length];
+        Arrays.fill(trechoDaRegra, -1);
+        for (int i = 0; i < regras.length; i++) {
+            if (!fixa[i]) {
+                int inicio = i;
+                while (i + 1 < regras.length && !fixa[i + 1]) {
+                    i++;
+                }
+                for (int k = inicio; k <= i; k++) {
+                    trechoDaRegra[k] = livres.size();
+                }
+                livres.add(new int[]{inicio, i + 1});
+            }
+        }
+        this.trechos = livres.toArray(new int[0][]);
+        this.trechoFixado = new boolean[trechos.length];
+        int[] identidade = new int[regras.length];
+        Arrays.setAll(identidade, i -> i);
+        this.ordem = identidade;
+    }
+
+    /**
+     * Marca uma regra como sensível à ordem: ela fica na sua posição e nenhuma outra regra a
+     * ultrapassa numa reordenação.
+     */
+    public static <T> Validator<T> ordemFixa(Validator<T> regra) {
+        return new OrdemFixa<>(Objects.requireNonNull(regra, "Validador não pode ser nulo"));
+    }
+
+    private record OrdemFixa<T>(Validator<T> regra) implements Validator<T> {
+        @Override
+        public List<ErrosValidacao> validar(T valor) {
+            return regra.validar(valor);
+        }
+    }
+
+    /**
+     * Índices das regras do plano na ordem em que são avaliadas agora.
+     */
+    public List<Integer> ordemEfetiva() {
+        int[] atual = ordem;
+        List<Integer> indices = new ArrayList<>(atual.length);
+        for (int indice : atual) {
+            indices.add(indice);
+        }
+        return Collections.unmodifiableList(indices);
+    }
+
+    public int quantidadeRegras() {
+        return regras.length;
+    }
+
+    @Override
+    public List<ErrosValidacao> validar(T valor) {
+        int[] atual = ordem;
+        if (ThreadLocalRandom.current().nextInt(taxaAmostragem) == 0) {
+            return validarAmostrando(valor, atual);
+        }
+        for (int posicao = 0; posicao < atual.length; posicao++) {
+            int i = atual[posicao];
+            List<ErrosValidacao> resultado;
+            try {
+                resultado = regra(i).validar(valor);
+            } catch (ValidacaoException e) {
+                throw e;
+            } catch (RuntimeException e) {
+                return reavaliarNaOrdemOriginal(valor, i, posicao, atual, e);
+            }
+            if (!resultado.isEmpty()) {
+                return falha(i, resultado);
+            }
+        }
+        return List.of();
+    }
+
+    /**
+     * Executa todas as regras cronometrando cada uma; o resultado é o da primeira que falhou.
+     */
+    private List<ErrosValidacao> validarAmostrando(T valor, int[] atual) {
+        int primeiraFalha = -1;
+        List<ErrosValidacao> errosDaPrimeira = null;
+        for (int posicao = 0; posicao < atual.length; posicao++) {
+            int i = atual[posicao];
+            int trecho = trechoDaRegra[i];
+            if (primeiraFalha >= 0 && (trecho < 0 || trechoFixado[trecho])) {
+                // Regras que não mudam de lugar não precisam de estatística após a falha.
+                continue;
+            }
+            long inicio = System.nanoTime();
+            List<ErrosValidacao> resultado;
+            try {
+                resultado = regra(i).validar(valor);
+            } catch (ValidacaoException e) {
+                if (primeiraFalha < 0) {
+                    throw e;
+                }
+                resultado = null;
+            } catch (RuntimeException e) {
+                if (primeiraFalha < 0) {
+                    return reavaliarNaOrdemOriginal(valor, i, posicao, atual, e);
+                }
+                // Só falhou porque uma regra anterior já reprovou o valor: depende dela.
+                fixarTrecho(i);
+                continue;
+            }
+            nanos[i] += System.nanoTime() - inicio;
+            execucoes[i]++;
+            if (resultado == null || !resultado.isEmpty()) {
+                rejeicoes[i]++;
+                if (primeiraFalha < 0) {
+                    primeiraFalha = i;
+                    errosDaPrimeira = resultado;
+                }
+            }
+        }
+        if (amostrasPendentes.incrementAndGet() >= amostrasPorReordenacao) {
+            reordenar();
+        }
+        return primeiraFalha < 0 ? List.of() : falha(primeiraFalha, errosDaPrimeira);
+    }
+
+    private List<ErrosValidacao> falha(int regra, List<ErrosValidacao> resultado) {
+        if (lancaFatal[regra]) {
+            for (ErrosValidacao erro : resultado) {
+                if (erro.deveLancarExcecao()) {
+                    throw ValidacaoException.deErroFatal(erro);
+                }
+            }
+        }
+        return resultado;
+    }
+
+    /**
+     * Uma regra lançou exceção. Se alguma regra do seu trecho foi antecipada, fixa o trecho na
+     * ordem original e reavalia o valor nela; caso contrário, a exceção é a do plano original.
+     */
+    private List<ErrosValidacao> reavaliarNaOrdemOriginal(T valor, int regra, int posicao, int[] atual,
+                                                          RuntimeException excecao) {
+        boolean foraDeOrdem = false;
+        for (int p = 0; p <= posicao && !foraDeOrdem; p++) {
+            foraDeOrdem = atual[p] != p;
+        }
+        if (!foraDeOrdem || trechoDaRegra[regra] < 0) {
+            throw excecao;
+        }
+        fixarTrecho(regra);
+        return original.validar(valor);
+    }
+
+    private void fixarTrecho(int regra) {
+        int trecho = trechoDaRegra[regra];
+        if (trecho < 0) {
+            return;
+        }
+        synchronized (trechoFixado) {
+            if (trechoFixado[trecho]) {
+                return;
+            }
+            trechoFixado[trecho] = true;
+            int[] nova = ordem.clone();
+            for (int i = trechos[trecho][0]; i < trechos[trecho][1]; i++) {
+                nova[i] = i;
+            }
+            ordem = nova;
+        }
+    }
+
+    /**
+     * Ordena cada trecho livre pela razão custo médio / taxa de rejeição, crescente.
+     */
+    private void reordenar() {
+        if (!reordenando.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            amostrasPendentes.set(0);
+            double[] pontuacao = new double[regras.length];
+            for (int i = 0; i < regras.length; i++) {
+                long vezes = Math.max(1, execucoes[i]);
+                double custo = (double) nanos[i] / vezes;
+                double taxaRejeicao = (double) rejeicoes[i] / vezes;
+                pontuacao[i] = taxaRejeicao == 0 ? Double.POSITIVE_INFINITY : custo / taxaRejeicao;
+            }
+            synchronized (trechoFixado) {
+                int[] nova = ordem.clone();
+                for (int t = 0; t < trechos.length; t++) {
+                    if (trechoFixado[t]) {
+                        continue;
+                    }
+                    int inicio = trechos[t][0];
+                    Integer[] indices = new Integer[trechos[t][1] - inicio];
+                    Arrays.setAll(indices, k -> inicio + k);
+                    // Ordenação estável: empates mantêm a ordem original.
+                    Arrays.sort(indices, (a, b) -> Double.compare(pontuacao[a], pontuacao[b]));
+                    for (int k = 0; k < indices.length; k++) {
+                        nova[inicio + k] = indices[k];
+                    }
+                }
+                ordem = nova;
+            }
+        } finally {
+            reordenando.set(false);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Validator<T> regra(int indice) {
+        return (Validator<T>) regras[indice];
+    }
+}
@@ -0,0 +1,89 @@
+package org.com.pangolin.carteira.core.validacoes;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Validador do id da carteira que faz todas as verificações de {@link Validacoes#carteiraIdEncadeado}
+ * numa única passada pelos caracteres, sem expressão regular nem stream.
+ *
+ * <p>Cada regra que falha liga um bit; a combinação de bits indexa uma tabela de listas de erros
+ * montada uma única vez, na mesma ordem em que a cadeia os acumula. Tanto o caminho válido
+ * quanto o inválido devolvem listas compartilhadas, sem alocar.</p>
+ *
+ * <p>Como na cadeia, um valor nulo lança {@link NullPointerException}: a regra de não nulo falha,
+ * mas a regra seguinte já lê o valor.</p>
+ */
+final class ValidadorCarteiraId implements Validator<String> {
+
+    static final String PREFIXO = "WALLET-";
+    static final int TAMANHO_MINIMO = 10;
+
+    static final ValidadorCarteiraId INSTANCIA = new ValidadorCarteiraId();
+
+    private static final int BRANCO = 1;
+    private static final int SEM_PREFIXO = 1 << 1;
+    private static final int CURTO = 1 << 2;
+    private static final int SEM_DIGITO = 1 << 3;
+    private static final int SEM_DIGITO_EM_LINHA_UNICA = 1 << 4;
+
+    /** Erros de cada regra, na ordem da cadeia; o índice é a posição do bit correspondente. */
+    private static final List<ErrosValidacao> ERROS = List.of(
+            CatalogoErros.obter(Validator.CODE_PADRAO, " ID  não pode ser em branco", false),
+            CatalogoErros.obter(Validator.CODE_PADRAO, "ID não poder começar com Carteira - prefixo", false),
+            CatalogoErros.comoLista(Validator.CODE_PADRAO,
+                    MensagemTemplate.de("O Id da Carteira deve ter um comprimento minimo  %scaracteres", TAMANHO_MINIMO),
+                    false).getFirst(),
+            CatalogoErros.obter(Validator.CODE_PADRAO, "O Id da Carteira deve conter pelo menos um caractere numérico", false),
+            CatalogoErros.obter(Validator.CODE_PADRAO, "O Id da Carteira deve conter pelo menos um caractere numérico", false));
+
+    private static final List<List<ErrosValidacao>> FALHAS = montarFalhas();
+
+    private ValidadorCarteiraId() {}
+
+    private static List<List<ErrosValidacao>> montarFalhas() {
+        List<List<ErrosValidacao>> falhas = new ArrayList<>(1 << ERROS.size());
+        for (int mascara = 0; mascara < 1 << ERROS.size(); mascara++) {
+            List<ErrosValidacao> erros = new ArrayList<>(ERROS.size());
+            for (int regra = 0; regra < ERROS.size(); regra++) {
+                if ((mascara & (1 << regra)) != 0) {
+                    erros.add(ERROS.get(regra));
+                }
+            }
+            falhas.add(List.copyOf(erros));
+        }
+        return List.copyOf(falhas);
+    }
+
+    @Override
+    public List<ErrosValidacao> validar(String valor) {
+        int tamanho = valor.length();
+        boolean branco = true;
+        boolean digito = false;
+        boolean digitoAscii = false;
+        boolean terminadorDeLinha = false;
+        for (int i = 0; i < tamanho; i++) {
+            char c = valor.charAt(i);
+            if (branco && !Character.isWhitespace(c)) {
+                branco = false;
+            }
+            if (c >= '0' && c <= '9') {
+                digito = true;
+                digitoAscii = true;
+            } else if (Character.isDigit(c)) {
+                digito = true;
+            } else if (PadroesRegex.terminadorDeLinha(c)) {
+                // O "." de ".*[0-9].*" não aceita terminadores de linha.
+                terminadorDeLinha = true;
+            }
+        }
+
+        int falhas = 0;
+        if (branco) falhas |= BRANCO;
+        if (!valor.startsWith(PREFIXO)) falhas |= SEM_PREFIXO;
+        if (tamanho < TAMANHO_MINIMO) falhas |= CURTO;
+        if (!digito) falhas |= SEM_DIGITO;
+        if (!digitoAscii || terminadorDeLinha) falhas |= SEM_DIGITO_EM_LINHA_UNICA;
+        return FALHAS.get(falhas);
+    }
+}
@@ -0,0 +1,400 @@
+package org.com.pangolin.carteira.core.validacoes;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Plano de validação achatado, resultado da compilação de validadores compostos.
+ *
+ * <p>Cada chamada a {@link Validator#and(Validator)} cria um nível de lambdas e listas
+ * intermediárias. O plano compilado guarda as regras folha num único array, na mesma
+ * ordem em que a árvore original as avaliaria, e executa todas elas num laço simples
+ * acumulando os erros numa única lista, criada apenas quando surge o primeiro erro.</p>
+ *
+ * <p>A semântica de exceção é preservada: cada nó {@code and} da árvore original vira um
+ * ponto de verificação após a sua última regra, cobrindo o intervalo de regras daquele nó.
+ * Quando um erro com {@code deveLancarExcecao = true} está dentro do intervalo, o plano
+ * lança {@link Validator.ValidacaoException} exatamente onde a árvore lançaria, com a
+ * mesma mensagem.</p>
+ *
+ * <p>Com {@link #comModo(ModoAvaliacao)} o plano pode interromper a avaliação assim que o
+ * resultado estiver decidido, e {@link #avaliar(Object)} informa quantas regras foram
+ * ignoradas.</p>
+ *
+ * <p><b>Exemplo:</b></p>
+ * <pre>{@code
+ * Validator<String> plano = Validacoes.NAO_NULO_NEM_VAZIO
+ *         .and(Validacoes.val_tam_min(3))
+ *         .compilar();
+ *
+ * List<ErrosValidacao> erros = plano.validar("ab");
+ * }</pre>
+ *
+ * @param <T> Tipo do objeto a ser validado
+ */
+public final class ValidadorCompilado<T> implements Validator<T> {
+
+    private static final int[] SEM_VERIFICACAO = new int[0];
+    private static final int SEM_CONDICAO = -1;
+
+    private final Validator<?>[] regras;
+    /**
+     * Para cada regra, o início (índice de regra) dos escopos {@code and} que se fecham
+     * logo após ela, do mais interno para o mais externo.
+     */
+    private final int[][] verificacoes;
+    /**
+     * Para cada regra que abre o lado direito de um {@code andThenIfValid}, o início do lado
+     * esquerdo; {@link #SEM_CONDICAO} nas demais.
+     */
+    private final int[] condicoes;
+    /**
+     * Para cada regra com condição, o índice (exclusivo) até onde as regras são ignoradas.
+     */
+    private final int[] saltos;
+    private final ModoAvaliacao modo;
+
+    private ValidadorCompilado(Validator<?>[] regras, int[][] verificacoes, int[] condicoes, int[] saltos,
+                               ModoAvaliacao modo) {
+        this.regras = regras;
+        this.verificacoes = verificacoes;
+        this.condicoes = condicoes;
+        this.saltos = saltos;
+        this.modo = modo;
+    }
+
+    /**
+     * Compila um validador qualquer num plano achatado.
+     *
+     * @param validador Validador original (simples ou composto)
+     * @param <T> Tipo do objeto a ser validado
+     * @return O próprio plano, se já compilado, ou um plano de uma regra
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> ValidadorCompilado<T> compilar(Validator<? super T> validador) {
+        Objects.requireNonNull(validador, "Validador não pode ser nulo");
+        if (validador instanceof ValidadorCompilado<?> compilado) {
+            return (ValidadorCompilado<T>) compilado;
+        }
+        return folha(validador);
+    }
+
+    private static <T> ValidadorCompilado<T> folha(Validator<?> validador) {
+        return new ValidadorCompilado<>(new Validator<?>[]{validador}, new int[][]{SEM_VERIFICACAO},
+                new int[]{SEM_CONDICAO}, new int[]{0}, ModoAvaliacao.COMPLETO);
+    }
+
+    /**
+     * Combina dois validadores (AND lógico), com a mesma semântica de {@link Validator#and(Validator)}.
+     */
+    public static <T> ValidadorCompilado<T> conjuncao(Validator<? super T> esquerdo, Validator<? super T> direito) {
+        ValidadorCompilado<T> plano = concatenar(compilar(esquerdo).comoParte(), compilar(direito).comoParte());
+        plano.fecharEscopo(0);
+        return plano;
+    }
+
+    /**
+     * Combina dois validadores avaliando o segundo apenas se o primeiro não produzir erros,
+     * com a mesma semântica de {@link Validator#andThenIfValid(Validator)}.
+     */
+    public static <T> ValidadorCompilado<T> condicional(Validator<? super T> esquerdo, Validator<? super T> direito) {
+        ValidadorCompilado<?> parteEsquerda = compilar(esquerdo).comoParte();
+        ValidadorCompilado<T> plano = concatenar(parteEsquerda, compilar(direito).comoParte());
+        int primeiraDireita = parteEsquerda.regras.length;
+        if (primeiraDireita < plano.regras.length) {
+            plano.condicoes[primeiraDireita] = 0;
+            plano.saltos[primeiraDireita] = plano.regras.length;
+        }
+        plano.fecharEscopo(0);
+        return plano;
+    }
+
+    /**
+     * Executa os validadores em sequência apenas acumulando os erros, sem verificar
+     * {@code deveLancarExcecao}, como {@link Validacoes#val_compor(Validator[])}.
+     */
+    public static <T> ValidadorCompilado<T> sequencia(List<? extends Validator<? super T>> validadores) {
+        Objects.requireNonNull(validadores, "Validadores não podem ser nulos");
+        ValidadorCompilado<T> plano = new ValidadorCompilado<>(new Validator<?>[0], new int[0][],
+                new int[0], new int[0], ModoAvaliacao.COMPLETO);
+        for (Validator<? super T> validador : validadores) {
+            plano = concatenar(plano, compilar(validador).comoParte());
+        }
+        return plano;
+    }
+
+    private static <T> ValidadorCompilado<T> concatenar(ValidadorCompilado<?> esquerdo, ValidadorCompilado<?> direito) {
+        int deslocamento = esquerdo.regras.length;
+        int total = deslocamento + direito.regras.length;
+
+        Validator<?>[] regras = Arrays.copyOf(esquerdo.regras, total);
+        System.arraycopy(direito.regras, 0, regras, deslocamento, direito.regras.length);
+
+        int[][] verificacoes = Arrays.copyOf(esquerdo.verificacoes, total);
+        int[] condicoes = Arrays.copyOf(esquerdo.condicoes, total);
+        int[] saltos = Arrays.copyOf(esquerdo.saltos, total);
+        for (int i = 0; i < direito.regras.length; i++) {
+            int[] escopos = direito.verificacoes[i].clone();
+            for (int j = 0; j < escopos.length; j++) {
+                escopos[j] += deslocamento;
+            }
+            verificacoes[deslocamento + i] = escopos;
+            condicoes[deslocamento + i] = direito.condicoes[i] == SEM_CONDICAO
+                    ? SEM_CONDICAO : direito.condicoes[i] + deslocamento;
+            saltos[deslocamento + i] = direito.saltos[i] + deslocamento;
+        }
+        return new ValidadorCompilado<>(regras, verificacoes, condicoes, saltos, ModoAvaliacao.COMPLETO);
+    }
+
+    private void fecharEscopo(int inicio) {
+        int ultima = regras.length - 1;
+        if (ultima >= 0) {
+            int[] escopos = verificacoes[ultima];
+            int[] novo = Arrays.copyOf(escopos, escopos.length + 1);
+            novo[escopos.length] = inicio;
+            verificacoes[ultima] = novo;
+        }
+    }
+
+    /**
+     * Planos com interrupção antecipada entram em outros planos como uma única regra,
+     * para que o seu modo continue valendo dentro da composição.
+     */
+    private ValidadorCompilado<T> comoParte() {
+        return modo == ModoAvaliacao.COMPLETO ? this : folha(this);
+    }
+
+    /**
+     * Devolve um plano com as mesmas regras avaliadas no modo informado.
+     *
+     * @param novoModo Modo de avaliação
+     * @return Plano equivalente com o modo de avaliação informado
+     */
+    public ValidadorCompilado<T> comModo(ModoAvaliacao novoModo) {
+        Objects.requireNonNull(novoModo, "Modo de avaliação não pode ser nulo");
+        if (novoModo == modo) {
+            return this;
+        }
+        return new ValidadorCompilado<>(regras, verificacoes, condicoes, saltos, novoModo);
+    }
+
+    public ModoAvaliacao modo() {
+        return modo;
+    }
+
+    /**
+     * Versão adaptativa deste plano em {@link ModoAvaliacao#PRIMEIRA_FALHA}, que reordena as
+     * regras independentes pelo custo e pela taxa de rejeição observados.
+     *
+     * @see ValidadorAdaptativo
+     */
+    public ValidadorAdaptativo<T> adaptativo() {
+        return adaptativo(ValidadorAdaptativo.TAXA_AMOSTRAGEM_PADRAO,
+                ValidadorAdaptativo.AMOSTRAS_POR_REORDENACAO_PADRAO);
+    }
+
+    /**
+     * @param taxaAmostragem Uma em cada {@code taxaAmostragem} avaliações é cronometrada
+     * @param amostrasPorReordenacao Amostras entre duas reordenações
+     */
+    public ValidadorAdaptativo<T> adaptativo(int taxaAmostragem, int amostrasPorReordenacao) {
+        return new ValidadorAdaptativo<>(this, taxaAmostragem, amostrasPorReordenacao);
+    }
+
+    Validator<?>[] regras() {
+        return regras.clone();
+    }
+
+    int condicao(int regra) {
+        return condicoes[regra];
+    }
+
+    int salto(int regra) {
+        return saltos[regra];
+    }
+
+    /**
+     * Para cada regra, se algum ponto de verificação cobre os seus erros fatais.
+     */
+    boolean[] regrasSobVerificacao() {
+        boolean[] cobertas = new boolean[regras.length];
+        for (int j = 0; j < regras.length; j++) {
+            for (int inicioEscopo : verificacoes[j]) {
+                for (int i = inicioEscopo; i <= j; i++) {
+                    cobertas[i] = true;
+                }
+            }
+        }
+        return cobertas;
+    }
+
+    /**
+     * Quantidade de regras folha do plano.
+     */
+    public int quantidadeRegras() {
+        return regras.length;
+    }
+
+    @Override
+    public ValidadorCompilado<T> compilar() {
+        return this;
+    }
+
+    @Override
+    public List<ErrosValidacao> validar(T valor) {
+        return executar(valor, null);
+    }
+
+    /**
+     * Avalia o valor sem lançar exceção para erros fatais, informando quantas regras
+     * foram avaliadas e quantas foram ignoradas.
+     *
+     * @param valor Objeto a ser validado
+     * @return Detalhes da execução
+     */
+    public ExecucaoValidacao avaliar(T valor) {
+        Contagem contagem = new Contagem();
+        List<ErrosValidacao> erros = executar(valor, contagem);
+        return new ExecucaoValidacao(erros, contagem.fatal, contagem.avaliadas, regras.length - contagem.avaliadas);
+    }
+
+    /**
+     * Avalia sem criar exceção: o erro fatal sai do laço como valor.
+     */
+    @Override
+    public ResultadoOuErro<ErrosValidacao, List<ErrosValidacao>> validarOuErro(T valor) {
+        Contagem contagem = new Contagem();
+        List<ErrosValidacao> erros = executar(valor, contagem);
+        return contagem.fatal != null ? ResultadoOuErro.esquerdo(contagem.fatal) : ResultadoOuErro.direito(erros);
+    }
+
+    /**
+     * Valida o lote sem lançar exceção para erros fatais: cada item é avaliado como em
+     * {@link #avaliar(Object)} e o erro fatal fica entre os erros do item.
+     */
+    @Override
+    public ResultadoLote validarLote(List<? extends T> valores) {
+        Objects.requireNonNull(valores, "Valores não podem ser nulos");
+        ResultadoLote.Acumulador acumulador = new ResultadoLote.Acumulador();
+        Contagem contagem = new Contagem();
+        int indice = 0;
+        for (T valor : valores) {
+            contagem.fatal = null;
+            List<ErrosValidacao> erros = executar(valor, contagem);
+            if (!erros.isEmpty()) {
+                acumulador.registrar(indice, erros);
+            }
+            indice++;
+        }
+        return acumulador.concluir(indice);
+    }
+
+    /**
+     * Laço único de execução. Sem {@code contagem} (caminho de {@link #validar(Object)}), erros
+     * fatais são lançados; com ela, são registrados e a execução termina no mesmo ponto.
+     */
+    private List<ErrosValidacao> executar(T valor, Contagem contagem) {
+        List<ErrosValidacao> erros = null;
+        ErrosValidacao[] fatais = null;
+        int[] regraDoFatal = null;
+        int totalFatais = 0;
+        int ultimaRegraComErro = -1;
+        int ignorarAte = 0;
+        int avaliadas = 0;
+
+        for (int i = 0; i < regras.length; i++) {
+            boolean produziuErro = false;
+            boolean produziuFatal = false;
+
+            if (i < ignorarAte) {
+                // lado direito de um andThenIfValid cujo lado esquerdo falhou
+            } else if (condicoes[i] != SEM_CONDICAO && ultimaRegraComErro >= condicoes[i]) {
+                ignorarAte = saltos[i];
+            } else {
+                avaliadas++;
+                List<ErrosValidacao> resultado = regra(i).validar(valor);
+                if (!resultado.isEmpty()) {
+                    produziuErro = true;
+                    ultimaRegraComErro = i;
+                    if (erros == null) {
+                        erros = new ArrayList<>();
+                    }
+                    int inicio = erros.size();
+                    erros.addAll(resultado);
+                    for (int j = inicio; j < erros.size(); j++) {
+                        ErrosValidacao erro = erros.get(j);
+                        if (erro.deveLancarExcecao()) {
+                            produziuFatal = true;
+                            if (fatais == null) {
+                                fatais = new ErrosValidacao[4];
+                                regraDoFatal = new int[4];
+                            } else if (totalFatais == fatais.length) {
+                                fatais = Arrays.copyOf(fatais, totalFatais * 2);
+                                regraDoFatal = Arrays.copyOf(regraDoFatal, totalFatais * 2);
+                            }
+                            fatais[totalFatais] = erro;
+                            regraDoFatal[totalFatais++] = i;
+                        }
+                    }
+                }
+            }
+
+            if (totalFatais > 0) {
+                int fatal = fatalNoEscopo(verificacoes[i], regraDoFatal, totalFatais);
+                if (fatal >= 0) {
+                    return interromper(fatais[fatal], erros, avaliadas, contagem);
+                }
+            }
+
+            boolean decidido = (modo == ModoAvaliacao.PRIMEIRA_FALHA && produziuErro)
+                    || (modo == ModoAvaliacao.PRIMEIRA_FATAL && produziuFatal);
+            if (decidido) {
+                // Um erro fatal ainda seria lançado por algum ponto de verificação posterior.
+                for (int j = i + 1; j < regras.length && totalFatais > 0; j++) {
+                    int fatal = fatalNoEscopo(verificacoes[j], regraDoFatal, totalFatais);
+                    if (fatal >= 0) {
+                        return interromper(fatais[fatal], erros, avaliadas, contagem);
+                    }
+                }
+                break;
+            }
+        }
+        if (contagem != null) {
+            contagem.avaliadas = avaliadas;
+        }
+        return erros == null ? List.of() : erros;
+    }
+
+    private static int fatalNoEscopo(int[] escopos, int[] regraDoFatal, int totalFatais) {
+        for (int inicioEscopo : escopos) {
+            for (int k = 0; k < totalFatais; k++) {
+                if (regraDoFatal[k] >= inicioEscopo) {
+                    return k;
+                }
+            }
+        }
+        return -1;
+    }
+
+    private static List<ErrosValidacao> interromper(ErrosValidacao fatal, List<ErrosValidacao> erros,
+                                                    int avaliadas, Contagem contagem) {
+        if (contagem == null) {
+            throw ValidacaoException.deErroFatal(fatal);
+        }
+        contagem.fatal = fatal;
+        contagem.avaliadas = avaliadas;
+        return erros == null ? List.of() : erros;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Validator<T> regra(int indice) {
+        return (Validator<T>) regras[indice];
+    }
+
+    private static final class Contagem {
+        private ErrosValidacao fatal;
+        private int avaliadas;
+    }
+}
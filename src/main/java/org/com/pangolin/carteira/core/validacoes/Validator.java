@@ -1,9 +1,8 @@
 package org.com.pangolin.carteira.core.validacoes;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
-import java.util.function.Function;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 @FunctionalInterface
@@ -24,29 +23,88 @@ public interface Validator<T>  {
 
     /**
      * Combina com outro validador (AND lógico)
+     *
+     * <p>O resultado já é um {@link ValidadorCompilado}: encadeamentos de {@code and} são
+     * achatados num único plano em vez de aninhar um nível de lambdas e listas por chamada.</p>
      */
     default Validator<T> and(Validator<? super T> other) {
-        return value -> {
-            List<ErrosValidacao> erros1 = this.validar(value);
-            List<ErrosValidacao> erros2 = other.validar(value);
-
-            List<ErrosValidacao> todosErros = new ArrayList<>();
-            todosErros.addAll(erros1);
-            todosErros.addAll(erros2);
-
-            // Verifica se deve lançar exceção
-            boolean deveLancar = todosErros.stream()
-                    .anyMatch(ErrosValidacao::deveLancarExcecao);
-
-            if (deveLancar) {
-                throw new ValidacaoException(String.valueOf(todosErros.stream()
-                        .filter(ErrosValidacao::deveLancarExcecao)
-                        .findFirst()
-                        .map((Function<? super ErrosValidacao, ? extends String>) ErrosValidacao::toString)));
+        return ValidadorCompilado.conjuncao(this, other);
+    }
+
+    /**
+     * Combina com outro validador avaliando-o apenas se este não produzir erros.
+     *
+     * <p>Útil para que verificações caras (regex, varreduras) não rodem depois que uma
+     * verificação barata, como nulo ou vazio, já reprovou o valor. Erros fatais são tratados
+     * como em {@link #and(Validator)}.</p>
+     */
+    default Validator<T> andThenIfValid(Validator<? super T> other) {
+        return ValidadorCompilado.condicional(this, other);
+    }
+
+    /**
+     * Compila este validador num plano achatado, executado num único laço sobre as regras folha.
+     *
+     * @return Plano equivalente a este validador
+     * @see ValidadorCompilado
+     */
+    default ValidadorCompilado<T> compilar() {
+        return ValidadorCompilado.compilar(this);
+    }
+
+    /**
+     * Valida todos os valores da lista, guardando erros apenas para os que falharem.
+     *
+     * <p>Planos compilados ({@link ValidadorCompilado}) não lançam exceção para erros fatais no
+     * lote: o erro fatal fica registrado no item, como em {@link ValidadorCompilado#avaliar}.</p>
+     *
+     * @param valores Valores a validar
+     * @return Bitmap dos índices que falharam e os seus erros
+     */
+    default ResultadoLote validarLote(List<? extends T> valores) {
+        Objects.requireNonNull(valores, "Valores não podem ser nulos");
+        ResultadoLote.Acumulador acumulador = new ResultadoLote.Acumulador();
+        int indice = 0;
+        for (T valor : valores) {
+            List<ErrosValidacao> erros = validar(valor);
+            if (!erros.isEmpty()) {
+                acumulador.registrar(indice, erros);
             }
+            indice++;
+        }
+        return acumulador.concluir(indice);
+    }
 
-            return todosErros;
-        };
+    /**
+     * Registra as execuções deste validador em {@link MetricasValidacao} sob o nome informado.
+     *
+     * <p>O validador devolvido é uma regra folha: instrumentar um validador composto mede a
+     * composição inteira.</p>
+     */
+    default Validator<T> comMetricas(String nome) {
+        return MetricasValidacao.instrumentar(nome, this);
+    }
+
+    /**
+     * Valida o objeto sem lançar exceção para erros fatais.
+     *
+     * <p>Onde {@link #validar(Object)} lançaria {@link ValidacaoException}, devolve o erro fatal
+     * no lado esquerdo; caso contrário, devolve os erros (possivelmente nenhum) no lado direito.
+     * Planos compilados avaliam sem criar exceção alguma, o que mantém caminhos de rejeição de
+     * alto volume livres do custo de montar exceções.</p>
+     *
+     * @param value Objeto a ser validado
+     * @return Erro fatal (esquerdo) ou erros acumulados (direito)
+     */
+    default ResultadoOuErro<ErrosValidacao, List<ErrosValidacao>> validarOuErro(T value) {
+        try {
+            return ResultadoOuErro.direito(validar(value));
+        } catch (ValidacaoException e) {
+            if (e.erroFatal().isPresent()) {
+                return ResultadoOuErro.esquerdo(e.erroFatal().get());
+            }
+            throw e;
+        }
     }
 
     /**
@@ -58,17 +116,32 @@ public interface Validator<T>  {
             String mensagemErro,
             boolean lancarExcecao
     ) {
-        return value -> {
-            if (!predicate.test(value)) {
-                return List.of((ErrosValidacao) ErrosValidacao.criar(
-
-                        codigoErro,
-                        mensagemErro,
-                        lancarExcecao
-                ));
-            }
-            return List.of();
-        };
+        // Erro canônico resolvido uma vez: a falha devolve sempre a mesma lista imutável.
+        List<ErrosValidacao> falha = CatalogoErros.comoLista(codigoErro, mensagemErro, lancarExcecao);
+        return value -> predicate.test(value) ? List.of() : falha;
+    }
+
+    /**
+     * Cria um validador cuja mensagem de erro só é formatada quando for lida
+     */
+    static <T> Validator<T> of(
+            Predicate<T> predicate,
+            String codigoErro,
+            MensagemTemplate mensagemErro,
+            boolean lancarExcecao
+    ) {
+        List<ErrosValidacao> falha = CatalogoErros.comoLista(codigoErro, mensagemErro, lancarExcecao);
+        return value -> predicate.test(value) ? List.of() : falha;
+    }
+
+    /**
+     * Versão com template sem lançar exceção
+     */
+    static <T> Validator<T> of(
+            Predicate<T> predicate,
+            MensagemTemplate mensagemErro
+    ) {
+        return of(predicate, CODE_PADRAO, mensagemErro, false);
     }
 
     /**
@@ -93,8 +166,12 @@ public interface Validator<T>  {
     }
 
     // Versão para converter Validator de supertipo
+    @SuppressWarnings("unchecked")
     static <T> Validator<T> from(Validator<? super T> validator) {
-        return validator::validar;
+        Objects.requireNonNull(validator, "Validator cannot be null");
+        // Seguro: um validador de supertipo aceita qualquer subtipo, e manter a mesma
+        // instância preserva planos compilados para o achatamento de and().
+        return (Validator<T>) validator;
     }
 
     /**
@@ -103,20 +180,66 @@ public interface Validator<T>  {
      * @param targetType Classe do novo tipo (para segurança)
      * @return Novo validador com tipo mais específico
      */
+    @SuppressWarnings("unchecked")
     default <R extends T> Validator<R> evolveTo(Class<R> targetType) {
         Objects.requireNonNull(targetType, "Target type cannot be null");
-        return this::validar;
+        return (Validator<R>) this;
     }
 
     /**
      * Versão sem parâmetro Class para uso fluente
      */
+    @SuppressWarnings("unchecked")
     default <R extends T> Validator<R> evolveTo() {
-        return this::validar;
+        return (Validator<R>) this;
     }
+    /**
+     * Exceção de validação.
+     *
+     * <p>As lançadas pelos planos compilados ({@link #deErroFatal(ErrosValidacao)}) não
+     * preenchem a pilha de chamadas e só montam a mensagem quando ela é lida: sob uma
+     * enxurrada de valores inválidos, criar a exceção custa apenas um objeto.</p>
+     */
     class ValidacaoException extends RuntimeException {
+        private final transient ErrosValidacao erroFatal;
+        private volatile String mensagem;
+
         public ValidacaoException(String message) {
             super(message);
+            this.erroFatal = null;
+        }
+
+        private ValidacaoException(ErrosValidacao erroFatal) {
+            super(null, null, false, false);
+            this.erroFatal = erroFatal;
+        }
+
+        /**
+         * Exceção sem pilha para o erro fatal, com a mesma mensagem que os planos compilados
+         * sempre usaram, montada apenas na primeira leitura.
+         */
+        public static ValidacaoException deErroFatal(ErrosValidacao erroFatal) {
+            return new ValidacaoException(Objects.requireNonNull(erroFatal, "Erro fatal não pode ser nulo"));
+        }
+
+        /**
+         * @return o erro que provocou a exceção, quando criada por {@link #deErroFatal(ErrosValidacao)}
+         */
+        public Optional<ErrosValidacao> erroFatal() {
+            return Optional.ofNullable(erroFatal);
+        }
+
+        @Override
+        public String getMessage() {
+            if (erroFatal == null) {
+                return super.getMessage();
+            }
+            String atual = mensagem;
+            if (atual == null) {
+                atual = String.valueOf(Optional.of(erroFatal).map(ErrosValidacao::toString));
+                mensagem = atual;
+            }
+            return atual;
         }
     }
 }
@@ -14,15 +14,17 @@ public interface ValidatorEvolution<T> extends Validator<T> {
      * @param targetType Classe do novo tipo (para segurança)
      * @return Novo validador com tipo mais específico
      */
+    @SuppressWarnings("unchecked")
     default <R extends T> Validator<R> evolveTo(Class<R> targetType) {
         Objects.requireNonNull(targetType, "Target type cannot be null");
-        return value -> this.validar(value);
+        return (Validator<R>) this;
     }
 
     /**
      * Versão sem parâmetro Class para uso fluente
      */
+    @SuppressWarnings("unchecked")
     default <R extends T> Validator<R> evolveTo() {
-        return value -> this.validar(value);
+        return (Validator<R>) this;
     }
 }
@@ -0,0 +1,156 @@
+package org.com.pangolin.carteira.core.validacoes;
+
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+
+/**
+ * Varreduras de lista em fork-join usadas pelos validadores de lista em modo paralelo.
+ *
+ * <p>A busca ({@link #algum}) compartilha uma flag entre as partes: assim que uma delas encontra
+ * um elemento, as demais param na próxima verificação, sem percorrer o restante. Máximo e mínimo
+ * são reduzidos por partes, comparando os extremos de cada metade. As condições e os
+ * {@code compareTo} dos elementos precisam ser seguros para execução concorrente.</p>
+ */
+final class VarreduraParalela {
+
+    /** Quantos elementos uma parte percorre entre as consultas à flag de cancelamento. */
+    private static final int INTERVALO_CANCELAMENTO = 1_024;
+
+    private VarreduraParalela() {}
+
+    private static boolean sequencial(List<?> lista, ConfiguracaoParalela configuracao) {
+        return lista.size() <= configuracao.limiar() || !(lista instanceof RandomAccess);
+    }
+
+    /**
+     * Equivalente a {@code lista.stream().anyMatch(condicao)}.
+     */
+    static <T> boolean algum(List<T> lista, Predicate<? super T> condicao, ConfiguracaoParalela configuracao) {
+        if (sequencial(lista, configuracao)) {
+            for (T elemento : lista) {
+                if (condicao.test(elemento)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        return configuracao.pool().invoke(
+                new Busca<>(lista, condicao, 0, lista.size(), configuracao.limiar(), new AtomicBoolean()));
+    }
+
+    /**
+     * Equivalente a {@code Collections.max(lista)}; a lista não pode ser vazia.
+     */
+    static <T extends Comparable<? super T>> T maximo(List<T> lista, ConfiguracaoParalela configuracao) {
+        return extremo(lista, 1, configuracao);
+    }
+
+    /**
+     * Equivalente a {@code Collections.min(lista)}; a lista não pode ser vazia.
+     */
+    static <T extends Comparable<? super T>> T minimo(List<T> lista, ConfiguracaoParalela configuracao) {
+        return extremo(lista, -1, configuracao);
+    }
+
+    private static <T extends Comparable<? super T>> T extremo(List<T> lista, int sinal,
+                                                               ConfiguracaoParalela configuracao) {
+        if (sequencial(lista, configuracao)) {
+            return Extremo.percorrer(lista, 0, lista.size(), sinal);
+        }
+        return configuracao.pool().invoke(new Extremo<>(lista, 0, lista.size(), sinal, configuracao.limiar()));
+    }
+
+    @SuppressWarnings("serial") // As tarefas só rodam no pool; nunca são serializadas.
+    private static final class Busca<T> extends RecursiveTask<Boolean> {
+        private final List<T> lista;
+        private final Predicate<? super T> condicao;
+        private final int inicio;
+        private final int fim;
+        private final int limiar;
+        private final AtomicBoolean encontrado;
+
+        Busca(List<T> lista, Predicate<? super T> condicao, int inicio, int fim, int limiar,
+              AtomicBoolean encontrado) {
+            this.lista = lista;
+            this.condicao = condicao;
+            this.inicio = inicio;
+            this.fim = fim;
+            this.limiar = limiar;
+            this.encontrado = encontrado;
+        }
+
+        @Override
+        protected Boolean compute() {
+            if (encontrado.get()) {
+                return true;
+            }
+            if (fim - inicio <= limiar) {
+                for (int i = inicio; i < fim; i++) {
+                    if ((i - inicio) % INTERVALO_CANCELAMENTO == 0 && encontrado.get()) {
+                        return true;
+                    }
+                    if (condicao.test(lista.get(i))) {
+                        encontrado.set(true);
+                        return true;
+                    }
+                }
+                return false;
+            }
+            int meio = (inicio + fim) >>> 1;
+            // A thread atual segue pela metade esquerda, na ordem da lista; a direita fica para roubo.
+            Busca<T> direita = new Busca<>(lista, condicao, meio, fim, limiar, encontrado);
+            direita.fork();
+            boolean esquerda = new Busca<>(lista, condicao, inicio, meio, limiar, encontrado).compute();
+            return esquerda || direita.join();
+        }
+    }
+
+    /**
+     * Maior elemento ({@code sinal = 1}) ou menor ({@code sinal = -1}) de um intervalo.
+     */
+    @SuppressWarnings("serial")
+    private static final class Extremo<T extends Comparable<? super T>> extends RecursiveTask<T> {
+        private final List<T> lista;
+        private final int inicio;
+        private final int fim;
+        private final int sinal;
+        private final int limiar;
+
+        Extremo(List<T> lista, int inicio, int fim, int sinal, int limiar) {
+            this.lista = lista;
+            this.inicio = inicio;
+            this.fim = fim;
+            this.sinal = sinal;
+            this.limiar = limiar;
+        }
+
+        /** Mesmo percurso de {@code Collections.max/min}: o candidato só é trocado por um estritamente maior/menor. */
+        static <T extends Comparable<? super T>> T percorrer(List<T> lista, int inicio, int fim, int sinal) {
+            T candidato = lista.get(inicio);
+            for (int i = inicio + 1; i < fim; i++) {
+                T elemento = lista.get(i);
+                if (Integer.signum(elemento.compareTo(candidato)) == sinal) {
+                    candidato = elemento;
+                }
+            }
+            return candidato;
+        }
+
+        @Override
+        protected T compute() {
+            if (fim - inicio <= limiar) {
+                return percorrer(lista, inicio, fim, sinal);
+            }
+            int meio = (inicio + fim) >>> 1;
+            Extremo<T> direita = new Extremo<>(lista, meio, fim, sinal, limiar);
+            direita.fork();
+            T candidatoEsquerda = new Extremo<>(lista, inicio, meio, sinal, limiar).compute();
+            T candidatoDireita = direita.join();
+            return Integer.signum(candidatoDireita.compareTo(candidatoEsquerda)) == sinal
+                    ? candidatoDireita : candidatoEsquerda;
+        }
+    }
+}
@@ -5,11 +5,26 @@ import org.com.pangolin.carteira.inicializacao.eventos.entrada.DadosDoEventoCont
 import org.com.pangolin.carteira.core.comandos.CarteiraComandoExecutor;
 import org.com.pangolin.carteira.core.validacoes.ResultadoOuErro;
 import org.com.pangolin.carteira.core.validacoes.ResultadoValidacao;
+import org.com.pangolin.carteira.core.validacoes.ValidacaoEstruturada;
 
 import java.util.Objects;
 
 public class AberturaCarteiraExecutor extends CarteiraComandoExecutor<Carteira, DadosDoEventoContrato> {
 
+    /** Validação estruturada das regras de negócio, ou {@code null} para a sequencial. */
+    private final ValidacaoEstruturada<DadosDoEventoContrato> validacaoEstruturada;
+
+    /**
+     * Executor com a validação sequencial das regras de negócio, como {@link #criar()}.
+     */
+    public AberturaCarteiraExecutor() {
+        this(null);
+    }
+
+    private AberturaCarteiraExecutor(ValidacaoEstruturada<DadosDoEventoContrato> validacaoEstruturada) {
+        this.validacaoEstruturada = validacaoEstruturada;
+    }
+
     /**
      * Método para validar as regras de negócio do comando de abertura de carteira.
      *
@@ -24,6 +39,9 @@ public class AberturaCarteiraExecutor extends CarteiraComandoExecutor<Carteira,
         if (command == null) {
             throw new IllegalArgumentException("Dados do evento contrato não podem ser nulos");
         }
+        if (validacaoEstruturada != null) {
+            return validacaoEstruturada.validar(command);
+        }
         return Carteira.validarCarteira(command);
 
     }
@@ -68,7 +86,18 @@ public class AberturaCarteiraExecutor extends CarteiraComandoExecutor<Carteira,
      * @return Uma nova instância de AberturaCarteiraExecutor.
      */
     public  static AberturaCarteiraExecutor criar() {
-        return new AberturaCarteiraExecutor();
+        return new AberturaCarteiraExecutor(null);
+    }
+
+    /**
+     * Método para criar um executor que valida as regras de negócio em paralelo.
+     *
+     * @param validacao Validação estruturada, normalmente montada a partir de
+     *                  {@link Carteira#validacaoEstruturada()}.
+     * @return Uma nova instância de AberturaCarteiraExecutor.
+     */
+    public  static AberturaCarteiraExecutor criar(ValidacaoEstruturada<DadosDoEventoContrato> validacao) {
+        return new AberturaCarteiraExecutor(Objects.requireNonNull(validacao, "Validação não pode ser nula"));
     }
 
 
@@ -2,11 +2,14 @@ package org.com.pangolin.carteira.inicializacao.entidade;
 
 import org.com.pangolin.carteira.inicializacao.eventos.entrada.DadosDoEventoContrato;
 import org.com.pangolin.carteira.inicializacao.eventos.entrada.ParcelaDoEventoContrato;
-import org.com.pangolin.carteira.inicializacao.entidade.servicos.CarteiraValidacaoService;
 import org.com.pangolin.carteira.core.entidade.Entity;
+import org.com.pangolin.carteira.core.validacoes.ContextoValidacao;
+import org.com.pangolin.carteira.core.validacoes.ErrosValidacao;
 import org.com.pangolin.carteira.core.validacoes.RecordValidado;
 import org.com.pangolin.carteira.core.validacoes.ResultadoValidacao;
+import org.com.pangolin.carteira.core.validacoes.ValidacaoEstruturada;
 import org.com.pangolin.carteira.core.validacoes.Validacoes;
+import org.com.pangolin.carteira.core.validacoes.Validator;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -38,7 +41,12 @@ public class Carteira extends Entity<String, CarteiraId> {
     private CarteiraId    carteiraId;
     private List<Parcela> parcelas =  new ArrayList<Parcela>();
 
-    private  static  final CarteiraValidacaoService validacaoService = CarteiraValidacaoService.criar();
+    private static final Validator<List<ParcelaDoEventoContrato>> VALIDADOR_PARCELAS = Validacoes.listaNaoVazia();
+    /**
+     * O código de erro só aparece quando o número do contrato é nulo, por isso o validador
+     * é montado uma única vez em vez de a cada chamada com o próprio número como código.
+     */
+    private static final Validator<String> VALIDADOR_NUMERO_CONTRATO = Validacoes.carteiraId(Validator.CODE_PADRAO);
 
 
     /**
@@ -65,17 +73,34 @@ public class Carteira extends Entity<String, CarteiraId> {
     public static ResultadoValidacao validarCarteira(DadosDoEventoContrato dados){
         Objects.requireNonNull(dados, "Dados do evento contrato não podem ser nulos");
 
-        validacaoService.adicionarValidacao("PARCELAS",
-                                                    RecordValidado.validar(dados.parcelas(), Validacoes.listaNaoVazia()))
-                        .adicionarValidacao("NUMERO_DO_CONTRATO",
-                                                    RecordValidado.validar(dados.numeroDoContrato(), Validacoes.carteiraId(dados.numeroDoContrato())));
-
-        return  validacaoService.validacao();
-
-
-
+        List<ErrosValidacao> errosParcelas = RecordValidado.validar(dados.parcelas(), VALIDADOR_PARCELAS);
+        List<ErrosValidacao> errosContrato = RecordValidado.validar(dados.numeroDoContrato(), VALIDADOR_NUMERO_CONTRATO);
+        if (errosParcelas.isEmpty() && errosContrato.isEmpty()) {
+            return ResultadoValidacao.VALIDO;
+        }
 
+        try (ContextoValidacao contexto = ContextoValidacao.abrir()) {
+            return contexto
+                    .adicionar("PARCELAS", errosParcelas)
+                    .adicionar("NUMERO_DO_CONTRATO", errosContrato)
+                    .resultado();
+        }
     }
+    /**
+     * Starts a structured validation with the same field rules as {@link #validarCarteira},
+     * each on its own virtual thread.
+     *
+     * <p>Callers append slow rules (blacklist lookups, duplicate-contract checks) and a deadline
+     * before building; the errors of the built-in fields come first.</p>
+     *
+     * @return a builder preloaded with the PARCELAS and NUMERO_DO_CONTRATO rules
+     */
+    public static ValidacaoEstruturada.Builder<DadosDoEventoContrato> validacaoEstruturada() {
+        return ValidacaoEstruturada.<DadosDoEventoContrato>criar()
+                .campo("PARCELAS", DadosDoEventoContrato::parcelas, VALIDADOR_PARCELAS)
+                .campo("NUMERO_DO_CONTRATO", DadosDoEventoContrato::numeroDoContrato, VALIDADOR_NUMERO_CONTRATO);
+    }
+
     /**
      * Opens a new wallet (Carteira) based on the provided contract event data.
      *
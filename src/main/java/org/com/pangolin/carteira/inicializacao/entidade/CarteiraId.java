@@ -4,8 +4,11 @@ package org.com.pangolin.carteira.inicializacao.entidade;
 import org.com.pangolin.carteira.core.entidade.EntityId;
 import org.com.pangolin.carteira.core.validacoes.RecordValidado;
 import org.com.pangolin.carteira.core.validacoes.Validacoes;
+import org.com.pangolin.carteira.core.validacoes.Validator;
 
 public  class CarteiraId extends EntityId<String> {
+    private static final Validator<String> VALIDADOR_ID = Validacoes.carteiraId("9999");
+
     /**
      * Constructs a new entity with the specified identifier.
      *
@@ -18,8 +21,7 @@ public  class CarteiraId extends EntityId<String> {
     }
 
     private static void validarCarteiraId(String id) {
-        RecordValidado.validar(id,
-                Validacoes.carteiraId("9999"));
+        RecordValidado.validar(id, VALIDADOR_ID);
     }
 
 
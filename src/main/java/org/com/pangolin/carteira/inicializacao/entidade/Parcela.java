@@ -75,6 +75,15 @@ public class Parcela extends Entity<String, ParcelaId> {
 
 
     public  static final class Builder {
+        private static final Validator<ParcelaId> ID_NAO_NULO =
+                Validator.of(v -> v != null, "FATAL_ERROR", "O Id da Parcela não pode ser nulo", true);
+        private static final Validator<LocalDate> VENCIMENTO_NAO_NULO =
+                Validator.of(v -> v != null, "FATAL_ERROR", "A data de vencimento da Parcela não pode ser nula", true);
+        private static final Validator<BigDecimal> VALOR_POSITIVO =
+                Validator.of(v -> v != null && v.compareTo(BigDecimal.ZERO) > 0, "FATAL_ERROR", "O valor da Parcela não pode ser nulo ou menor ou igual a zero", true);
+        private static final Validator<BigDecimal> VALOR_DUAS_CASAS =
+                Validator.of(v -> v.scale() <= 2, "FATAL_ERROR", "O valor da Parcela deve ter no máximo duas casas decimais", true);
+
         private ParcelaId id;
         private BigDecimal valor;
         private LocalDate dataVencimento;
@@ -111,10 +120,10 @@ public class Parcela extends Entity<String, ParcelaId> {
          * @throws Validator.ValidacaoException if any validation fails
          */
         private void validar(){
-            RecordValidado.validar(id, Validator.of(v-> v != null,"FATAL_ERROR" ,"O Id da Parcela não pode ser nulo",true));
-            RecordValidado.validar(dataVencimento, Validator.of(v -> v != null, "FATAL_ERROR", "A data de vencimento da Parcela não pode ser nula", true));
-            RecordValidado.validar(valor, Validator.of(v -> v != null && v.compareTo(BigDecimal.ZERO) > 0, "FATAL_ERROR", "O valor da Parcela não pode ser nulo ou menor ou igual a zero", true));
-            RecordValidado.validar(valor, Validator.of(v -> v.scale() <= 2, "FATAL_ERROR", "O valor da Parcela deve ter no máximo duas casas decimais", true));
+            RecordValidado.validar(id, ID_NAO_NULO);
+            RecordValidado.validar(dataVencimento, VENCIMENTO_NAO_NULO);
+            RecordValidado.validar(valor, VALOR_POSITIVO);
+            RecordValidado.validar(valor, VALOR_DUAS_CASAS);
         }
     }
 }
@@ -9,6 +9,9 @@ public class ParcelaId extends EntityId<String> implements RecordValidado {
 
     private static final long serialVersionUID = 1L;
     private static final long ID_MAXIMO = 999999L;
+    private static final Validator<String> VALIDADOR_ID = Validacoes.NAO_NULO_NEM_VAZIO.and(
+            Validator.of(v -> Long.parseLong(v) <= ID_MAXIMO,
+                    "O ID da parcela deve ser um número menor ou igual a " + ID_MAXIMO));
 
     public ParcelaId(String id) {
         super(id);
@@ -19,10 +22,7 @@ public class ParcelaId extends EntityId<String> implements RecordValidado {
     }
 
     private static void validarParcelaId(String id) {
-        RecordValidado.validar(id,
-                Validacoes.NAO_NULO_NEM_VAZIO.and(
-                        Validator.of(v -> Long.parseLong(v) <= ID_MAXIMO,
-                                "O ID da parcela deve ser um número menor ou igual a " + ID_MAXIMO)));
+        RecordValidado.validar(id, VALIDADOR_ID);
     }
 
 }
@@ -7,8 +7,8 @@ import java.util.List;
 
 public class CarteiraValidacaoService {
 
-    private   ResultadoValidacao resultadoValidacao = ResultadoValidacao.validar();
-    protected CarteiraValidacaoService(){resultadoValidacao = ResultadoValidacao.validar();}
+    private   ResultadoValidacao resultadoValidacao = ResultadoValidacao.VALIDO;
+    protected CarteiraValidacaoService(){resultadoValidacao = ResultadoValidacao.VALIDO;}
     public CarteiraValidacaoService adicionarValidacao(String campo, List<ErrosValidacao> erros) {
         if (erros == null) {
             throw new IllegalArgumentException("A validação não pode ser nula.");
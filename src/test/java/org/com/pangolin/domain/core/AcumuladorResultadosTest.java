@@ -0,0 +1,127 @@
+package org.com.pangolin.domain.core;
+
+import org.com.pangolin.carteira.core.validacoes.AcumuladorResultados;
+import org.com.pangolin.carteira.core.validacoes.ErrosValidacao;
+import org.com.pangolin.carteira.core.validacoes.ResultadoValidacao;
+import org.com.pangolin.carteira.core.validacoes.Validacoes;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AcumuladorResultadosTest {
+
+    private static List<ErrosValidacao> erro(String codigo) {
+        return List.of(new ErrosValidacao(codigo, "Mensagem " + codigo, false));
+    }
+
+    @Test
+    void selar_semErros_deveDevolverValidoCompartilhado() {
+        AcumuladorResultados acumulador = AcumuladorResultados.comCampos("a", "b");
+        acumulador.publicar("a", List.of());
+
+        assertSame(ResultadoValidacao.VALIDO, acumulador.selar());
+    }
+
+    @Test
+    void selar_deveOrdenarDeclaradosEDepoisAvulsosEmOrdemAlfabetica() {
+        AcumuladorResultados acumulador = AcumuladorResultados.comCampos("NOME", "EMAIL");
+        acumulador.publicar("zeta", erro("Z"))
+                .publicar("EMAIL", erro("E"))
+                .publicar("alfa", erro("A"))
+                .publicar("NOME", erro("N"));
+
+        ResultadoValidacao resultado = acumulador.selar();
+
+        assertFalse(resultado.valido());
+        assertEquals(List.of("NOME", "EMAIL", "alfa", "zeta"), List.copyOf(resultado.erros().keySet()));
+    }
+
+    @Test
+    void publicar_mesmoCampo_deveManterOrdemDePublicacao() {
+        AcumuladorResultados acumulador = AcumuladorResultados.criar();
+        acumulador.publicar("campo", erro("1")).publicar("campo", erro("2"));
+
+        assertEquals(List.of("1", "2"), acumulador.selar().errorPorCampo("campo").stream()
+                .map(ErrosValidacao::codigo).toList());
+    }
+
+    @Test
+    void publicar_resultadoPronto_deveCopiarCampos() {
+        AcumuladorResultados acumulador = AcumuladorResultados.criar()
+                .publicar(ResultadoValidacao.invalidar("campo", "COD", "msg"));
+
+        assertTrue(acumulador.selar().contemCodigoDeErro("COD"));
+    }
+
+    @Test
+    void publicar_aposSelar_deveLancar() {
+        AcumuladorResultados acumulador = AcumuladorResultados.criar();
+        acumulador.selar();
+
+        assertTrue(acumulador.selado());
+        assertThrows(IllegalStateException.class, () -> acumulador.publicar("campo", erro("X")));
+    }
+
+    @Test
+    void campos_invalidos_devemSerRejeitados() {
+        assertThrows(IllegalArgumentException.class, () -> AcumuladorResultados.comCampos("a", "a"));
+        assertThrows(IllegalArgumentException.class, () -> AcumuladorResultados.criar().publicar(" ", erro("X")));
+    }
+
+    @Test
+    void validacaoParalela_deveTerOrdemIndependenteDoTermino() {
+        for (int rodada = 0; rodada < 50; rodada++) {
+            AcumuladorResultados acumulador = AcumuladorResultados.comCampos("NOME", "DOCUMENTO", "EMAIL");
+            CompletableFuture.allOf(
+                    CompletableFuture.runAsync(() -> acumulador.validar("EMAIL", "", Validacoes.NAO_NULO_NEM_VAZIO)),
+                    CompletableFuture.runAsync(() -> acumulador.validar("DOCUMENTO", "", Validacoes.NAO_NULO_NEM_VAZIO)),
+                    CompletableFuture.runAsync(() -> acumulador.validar("NOME", "", Validacoes.NAO_NULO_NEM_VAZIO)))
+                    .join();
+
+            assertEquals(List.of("NOME", "DOCUMENTO", "EMAIL"), List.copyOf(acumulador.selar().erros().keySet()));
+        }
+    }
+
+    @Test
+    void publicacoesConcorrentes_naoDevemPerderErros() throws Exception {
+        int threads = 8;
+        int porThread = 2_000;
+        AcumuladorResultados acumulador = AcumuladorResultados.comCampos("compartilhado");
+        CountDownLatch largada = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<CompletableFuture<Void>> tarefas = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                String avulso = "avulso-" + t;
+                tarefas.add(CompletableFuture.runAsync(() -> {
+                    try {
+                        largada.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    for (int i = 0; i < porThread; i++) {
+                        acumulador.publicar("compartilhado", erro("C"));
+                        acumulador.publicar(avulso, erro("A"));
+                    }
+                }, executor));
+            }
+            largada.countDown();
+            tarefas.forEach(CompletableFuture::join);
+        } finally {
+            executor.shutdown();
+        }
+
+        ResultadoValidacao resultado = acumulador.selar();
+        assertEquals(threads * porThread, resultado.errorPorCampo("compartilhado").size());
+        for (int t = 0; t < threads; t++) {
+            assertEquals(porThread, resultado.errorPorCampo("avulso-" + t).size());
+        }
+    }
+}
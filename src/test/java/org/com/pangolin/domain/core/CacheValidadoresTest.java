@@ -0,0 +1,43 @@
+package org.com.pangolin.domain.core;
+
+import org.com.pangolin.carteira.core.validacoes.CacheValidadores;
+import org.com.pangolin.carteira.core.validacoes.Validacoes;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CacheValidadoresTest {
+
+    @Test
+    void fabricas_mesmosArgumentos_deveDevolverMesmaInstancia() {
+        CacheValidadores.Estatisticas antes = CacheValidadores.estatisticas();
+
+        assertSame(Validacoes.val_lista_tam_max(7), Validacoes.val_lista_tam_max(7));
+        assertSame(Validacoes.val_regex("[a-z]+"), Validacoes.val_regex("[a-z]+"));
+        assertNotSame(Validacoes.val_lista_tam_max(7), Validacoes.val_lista_tam_max(8));
+
+        CacheValidadores.Estatisticas depois = CacheValidadores.estatisticas();
+        assertTrue(depois.acertos() - antes.acertos() >= 3);
+        assertTrue(depois.tamanho() >= 3);
+    }
+
+    @Test
+    void fabricasSemArgumentos_deveDevolverConstantes() {
+        assertSame(Validacoes.listaNaoVazia(), Validacoes.listaNaoVazia());
+        assertSame(Validacoes.val_str_nao_vazia(), Validacoes.val_str_nao_vazia());
+        assertSame(Validacoes.val_lista_ordenada(true), Validacoes.val_lista_ordenada(true));
+        assertSame(Validacoes.carteiraId("A"), Validacoes.carteiraId("B"));
+    }
+
+    @Test
+    void argumentoDeTipoNaoReconhecido_naoDeveSerGuardado() {
+        assertNotSame(Validacoes.maiorQue(new Versao(1)), Validacoes.maiorQue(new Versao(1)));
+    }
+
+    private record Versao(int numero) implements Comparable<Versao> {
+        @Override
+        public int compareTo(Versao outra) {
+            return Integer.compare(numero, outra.numero);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package org.com.pangolin.domain.core;
+
+import org.com.pangolin.carteira.core.validacoes.ErrosValidacao;
+import org.com.pangolin.carteira.core.validacoes.Validacoes;
+import org.com.pangolin.carteira.core.validacoes.Validator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CarteiraIdValidadorTest {
+
+    private final Validator<String> fundido = Validacoes.carteiraId(Validator.CODE_PADRAO);
+    private final Validator<String> encadeado = Validacoes.carteiraIdEncadeado(Validator.CODE_PADRAO);
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "WALLET-000123", "WALLET-", "WALLET-ABCDEF", "WALLET-12", "", "   ", "\t\n",
+            "wallet-000123", "CARTEIRA-0001", "WALLET-٣٤٥٦",
+            "WALLET-0001\n", "WALLET-\r0001", "WALLET-0001 ", "WALLET-0001\u0085",
+            " WALLET-0001", "WALLET-ABCDEF١", "1", "WALLET-𝟎00000"
+    })
+    void fundido_deveProduzirOsMesmosErrosDaCadeia(String valor) {
+        assertEquals(encadeado.validar(valor), fundido.validar(valor));
+    }
+
+    @Test
+    void fundido_valorNuloDeveFalharComoACadeia() {
+        assertThrows(NullPointerException.class, () -> encadeado.validar(null));
+        assertThrows(NullPointerException.class, () -> fundido.validar(null));
+    }
+
+    @Test
+    void fundido_naoDeveAlocarListasParaErrosConhecidos() {
+        List<ErrosValidacao> primeira = fundido.validar("WALLET-");
+
+        assertSame(primeira, fundido.validar("WALLET-"));
+        assertSame(List.of(), fundido.validar("WALLET-000123"));
+    }
+}
@@ -0,0 +1,64 @@
+package org.com.pangolin.domain.core;
+
+import org.com.pangolin.carteira.core.validacoes.ConjuntoReferencia;
+import org.com.pangolin.carteira.core.validacoes.Validacoes;
+import org.com.pangolin.carteira.core.validacoes.Validator;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConjuntoReferenciaTest {
+
+    @Test
+    void naoContidoEm_comConjunto_deveConcordarComAColecao() {
+        List<String> bloqueados = List.of("WALLET-0001", "WALLET-0002", "CTR-77");
+        Validator<String> porLista = Validacoes.naoContidoEm(bloqueados, "bloqueado");
+        Validator<String> porConjunto = Validacoes.naoContidoEm(ConjuntoReferencia.de(bloqueados), "bloqueado");
+
+        for (String valor : List.of("WALLET-0001", "CTR-77", "WALLET-9999", "")) {
+            assertEquals(porLista.validar(valor), porConjunto.validar(valor), valor);
+        }
+    }
+
+    @Test
+    void filtroBloom_deveSerExato() {
+        List<Long> revogadas = IntStream.range(0, 200_000).mapToObj(i -> i * 3L).toList();
+        ConjuntoReferencia<Long> conjunto = ConjuntoReferencia.de(revogadas);
+
+        assertTrue(conjunto.usaFiltroBloom());
+        assertEquals(200_000, conjunto.tamanho());
+        for (long valor = 0; valor < 600_000; valor++) {
+            assertEquals(valor % 3 == 0, conjunto.contem(valor));
+        }
+        assertFalse(conjunto.contem(null));
+        assertFalse(conjunto.contem("0"));
+    }
+
+    @Test
+    void comFiltroBloom_deveAceitarNulosETaxaValida() {
+        ConjuntoReferencia<String> conjunto = ConjuntoReferencia.comFiltroBloom(Arrays.asList("a", null), 0.001);
+
+        assertTrue(conjunto.usaFiltroBloom());
+        assertTrue(conjunto.contem(null));
+        assertTrue(conjunto.contem("a"));
+        assertFalse(conjunto.contem("b"));
+        assertThrows(IllegalArgumentException.class, () -> ConjuntoReferencia.comFiltroBloom(List.of(), 1.0));
+    }
+
+    @Test
+    void atualizar_devePublicarNovoRetrato() {
+        ConjuntoReferencia<String> conjunto = ConjuntoReferencia.de(List.of("A"));
+        Validator<String> validador = Validacoes.naoContidoEm(conjunto, null);
+
+        assertTrue(validador.validar("B").isEmpty());
+        conjunto.atualizar(List.of("B"));
+
+        assertFalse(validador.validar("B").isEmpty());
+        assertTrue(validador.validar("A").isEmpty());
+        assertFalse(conjunto.usaFiltroBloom());
+    }
+}
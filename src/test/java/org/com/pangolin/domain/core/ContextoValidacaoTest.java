@@ -0,0 +1,155 @@
+package org.com.pangolin.domain.core;
+
+import org.com.pangolin.carteira.core.validacoes.ContextoValidacao;
+import org.com.pangolin.carteira.core.validacoes.ErrosValidacao;
+import org.com.pangolin.carteira.core.validacoes.RecordValidado;
+import org.com.pangolin.carteira.core.validacoes.ResultadoValidacao;
+import org.com.pangolin.carteira.inicializacao.entidade.Carteira;
+import org.com.pangolin.carteira.inicializacao.eventos.entrada.DadosDoEventoContrato;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ContextoValidacaoTest {
+
+    private static final List<ErrosValidacao> ERROS = List.of(new ErrosValidacao("COD", "Campo inválido", false));
+
+    @Test
+    void contexto_semErros_deveDevolverValidoCompartilhado() {
+        try (ContextoValidacao contexto = ContextoValidacao.abrir()) {
+            contexto.adicionar("campo", List.of());
+
+            assertSame(ResultadoValidacao.VALIDO, contexto.resultado());
+        }
+    }
+
+    @Test
+    void contexto_deveAcumularErrosPorCampo() {
+        try (ContextoValidacao contexto = ContextoValidacao.abrir()) {
+            contexto.adicionar("a", ERROS).adicionar("b", ERROS);
+
+            ResultadoValidacao resultado = contexto.resultado();
+            assertFalse(resultado.valido());
+            assertEquals(List.of("a", "b"), List.copyOf(resultado.erros().keySet()));
+        }
+    }
+
+    @Test
+    void fechar_deveManterOResultadoLido() {
+        ResultadoValidacao resultado;
+        try (ContextoValidacao contexto = ContextoValidacao.abrir()) {
+            resultado = contexto.adicionar("a", ERROS).resultado();
+        }
+
+        try (ContextoValidacao contexto = ContextoValidacao.abrir()) {
+            assertTrue(contexto.valido());
+        }
+        assertTrue(resultado.existeErroPorCampo("a"), "O resultado lido deve sobreviver ao fechamento");
+        assertFalse(ContextoValidacao.existeAberto());
+    }
+
+    @Test
+    void referenciaRetidaAposFechar_deveLancarMesmoAposReabrir() {
+        ContextoValidacao retido;
+        try (ContextoValidacao contexto = ContextoValidacao.abrir()) {
+            retido = contexto;
+        }
+        assertThrows(IllegalStateException.class, () -> retido.adicionar("a", ERROS));
+
+        try (ContextoValidacao contexto = ContextoValidacao.abrir()) {
+            assertNotSame(retido, contexto);
+            assertThrows(IllegalStateException.class, () -> retido.adicionar("vazado", ERROS));
+            assertThrows(IllegalStateException.class, retido::resultado);
+
+            assertTrue(contexto.valido());
+        }
+    }
+
+    @Test
+    void contextosAninhados_devemSerIndependentes() {
+        try (ContextoValidacao externo = ContextoValidacao.abrir()) {
+            externo.adicionar("externo", ERROS);
+            for (int i = 0; i < 6; i++) {
+                try (ContextoValidacao interno = ContextoValidacao.abrir()) {
+                    assertNotSame(externo, interno);
+                    assertTrue(interno.valido());
+                }
+            }
+            assertEquals(1, externo.resultado().erros().size());
+        }
+    }
+
+    @Test
+    void fecharForaDeOrdem_deveLancar() {
+        ContextoValidacao externo = ContextoValidacao.abrir();
+        ContextoValidacao interno = ContextoValidacao.abrir();
+
+        assertThrows(IllegalStateException.class, externo::close);
+        interno.close();
+        externo.close();
+        assertThrows(IllegalStateException.class, externo::resultado);
+    }
+
+    @Test
+    void contexto_usadoEmOutraThread_deveLancar() throws Exception {
+        try (ContextoValidacao contexto = ContextoValidacao.abrir()) {
+            ExecutorService executor = Executors.newSingleThreadExecutor();
+            try {
+                Future<?> uso = executor.submit(() -> contexto.adicionar("a", ERROS));
+                Exception e = assertThrows(Exception.class, uso::get);
+                assertInstanceOf(IllegalStateException.class, e.getCause());
+            } finally {
+                executor.shutdown();
+            }
+        }
+    }
+
+    @Test
+    void adicionarResultadoValidacao_deveRegistrarNoContextoAberto() {
+        RecordValidado registro = new RecordValidado() {};
+
+        try (ContextoValidacao contexto = ContextoValidacao.abrir()) {
+            registro.adicionarResultadoValidacao("campo", ERROS);
+
+            assertTrue(contexto.resultado().existeErroPorCampo("campo"));
+        }
+        assertSame(registro, registro.adicionarResultadoValidacao("campo", ERROS));
+    }
+
+    @Test
+    void validarCarteira_emParalelo_naoDeveMisturarResultados() throws Exception {
+        DadosDoEventoContrato valido = ContratosDeTeste.VALIDO;
+        DadosDoEventoContrato invalido = ContratosDeTeste.VAZIO;
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Boolean>> tarefas = new ArrayList<>();
+            for (int t = 0; t < 16; t++) {
+                boolean usaValido = t % 2 == 0;
+                tarefas.add(executor.submit(() -> {
+                    for (int i = 0; i < 5_000; i++) {
+                        ResultadoValidacao resultado = Carteira.validarCarteira(usaValido ? valido : invalido);
+                        boolean esperado = usaValido
+                                ? resultado.valido()
+                                : resultado.erros().size() == 2 && resultado.erros().get("PARCELAS").size() == 1;
+                        if (!esperado || ContextoValidacao.existeAberto()) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }));
+            }
+            for (Future<Boolean> tarefa : tarefas) {
+                assertTrue(tarefa.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package org.com.pangolin.domain.core;
+
+import org.com.pangolin.carteira.inicializacao.eventos.entrada.DadosDoEventoContrato;
+import org.com.pangolin.carteira.inicializacao.eventos.entrada.ParcelaDoEventoContrato;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Eventos de contrato usados pelos testes de validação da carteira.
+ */
+final class ContratosDeTeste {
+
+    static final String NUMERO_VALIDO = "WALLET-000123";
+
+    private static final List<ParcelaDoEventoContrato> UMA_PARCELA =
+            List.of(new ParcelaDoEventoContrato("1", new BigDecimal("100.00"), LocalDate.of(2030, 1, 10)));
+
+    /** Contrato válido, com uma parcela. */
+    static final DadosDoEventoContrato VALIDO = new DadosDoEventoContrato(NUMERO_VALIDO, UMA_PARCELA);
+
+    /** Parcela válida, mas sem número de contrato: um único campo com erro. */
+    static final DadosDoEventoContrato SEM_NUMERO = new DadosDoEventoContrato("", UMA_PARCELA);
+
+    /** Sem número de contrato e sem parcelas: erros em dois campos. */
+    static final DadosDoEventoContrato VAZIO = new DadosDoEventoContrato("", List.of());
+
+    private ContratosDeTeste() {}
+}
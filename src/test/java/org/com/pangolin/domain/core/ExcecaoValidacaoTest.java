@@ -0,0 +1,66 @@
+package org.com.pangolin.domain.core;
+
+import org.com.pangolin.carteira.core.validacoes.ErrosValidacao;
+import org.com.pangolin.carteira.core.validacoes.ResultadoOuErro;
+import org.com.pangolin.carteira.core.validacoes.ResultadoValidacao;
+import org.com.pangolin.carteira.core.validacoes.Validator;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExcecaoValidacaoTest {
+
+    private static final Validator<String> FATAL_CURTA =
+            Validator.of(s -> s.length() > 2, "CURTA", "Muito curta", true);
+    private static final Validator<String> SEM_ESPACO =
+            Validator.of(s -> !s.contains(" "), "ESPACO", "Contém espaço");
+    private static final Validator<String> PLANO = SEM_ESPACO.and(FATAL_CURTA);
+
+    @Test
+    void excecaoDoPlano_naoDevePreencherPilha_eManterMensagem() {
+        Validator.ValidacaoException e = assertThrows(Validator.ValidacaoException.class, () -> PLANO.validar("a "));
+        ErrosValidacao fatal = FATAL_CURTA.validar("a").getFirst();
+
+        assertEquals(0, e.getStackTrace().length);
+        assertEquals(String.valueOf(Optional.of(fatal).map(ErrosValidacao::toString)), e.getMessage());
+        assertSame(e.getMessage(), e.getMessage());
+        assertEquals(Optional.of(fatal), e.erroFatal());
+    }
+
+    @Test
+    void excecaoComMensagem_deveManterPilha() {
+        Validator.ValidacaoException e = new Validator.ValidacaoException("falhou");
+
+        assertTrue(e.getStackTrace().length > 0);
+        assertEquals("falhou", e.getMessage());
+        assertTrue(e.erroFatal().isEmpty());
+    }
+
+    @Test
+    void validarOuErro_deveDevolverOFatalSemLancar() {
+        ResultadoOuErro<ErrosValidacao, List<ErrosValidacao>> fatal = PLANO.validarOuErro("a ");
+        ResultadoOuErro<ErrosValidacao, List<ErrosValidacao>> comErros = PLANO.validarOuErro("abc def");
+        ResultadoOuErro<ErrosValidacao, List<ErrosValidacao>> folha = SEM_ESPACO.validarOuErro("a b");
+
+        assertEquals(FATAL_CURTA.validar("a").getFirst(),
+                fatal.desdobrar(erro -> erro, erros -> null));
+        assertEquals(PLANO.validar("abc def"), comErros.desdobrar(erro -> null, erros -> erros));
+        assertEquals(SEM_ESPACO.validar("a b"), folha.desdobrar(erro -> null, erros -> erros));
+        assertEquals(PLANO.compilar().avaliar("a ").comoResultadoOuErro(), fatal);
+    }
+
+    @Test
+    void lancarSeInvalido_deveJuntarMensagensAoLer() {
+        ResultadoValidacao r = ResultadoValidacao.invalidar("campo", "COD", "msg")
+                .combinar(ResultadoValidacao.invalidar("outro", "COD2", "msg2"));
+
+        ResultadoValidacao.ValidacaoException e =
+                assertThrows(ResultadoValidacao.ValidacaoException.class, r::lancarSeInvalido);
+
+        assertEquals(0, e.getStackTrace().length);
+        assertEquals("msg, msg2", e.getMessage());
+    }
+}
@@ -0,0 +1,86 @@
+package org.com.pangolin.domain.core;
+
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolver;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Extensão JUnit que mede a alocação por thread ({@code com.sun.management.ThreadMXBean}) de
+ * um bloco já aquecido, para testes de orçamento de alocação.
+ *
+ * <p>Com {@code @ExtendWith(MedidorAlocacao.class)}, os testes recebem um {@link MedidorAlocacao}
+ * como parâmetro. O bloco é executado {@link #AQUECIMENTO} vezes antes da medição, para que a
+ * carga de classes e a compilação não entrem na conta, e a medição guarda a menor alocação
+ * entre algumas rodadas de {@link #ITERACOES} execuções, para descartar ruído pontual. O
+ * resultado de cada execução é guardado num campo volátil, para que o JIT não descarte o
+ * bloco nem elimine as suas alocações por análise de escape.</p>
+ */
+public final class MedidorAlocacao implements BeforeAllCallback, ParameterResolver {
+
+    static final int AQUECIMENTO = 20_000;
+    static final int ITERACOES = 10_000;
+    private static final int RODADAS = 5;
+
+    private static com.sun.management.ThreadMXBean threadMXBean;
+    private static volatile Object sumidouro;
+
+    @Override
+    public void beforeAll(ExtensionContext contexto) {
+        threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assertTrue(threadMXBean.isThreadAllocatedMemorySupported(), "JVM não mede alocação por thread");
+        threadMXBean.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    @Override
+    public boolean supportsParameter(ParameterContext parametro, ExtensionContext contexto) {
+        return parametro.getParameter().getType() == MedidorAlocacao.class;
+    }
+
+    @Override
+    public Object resolveParameter(ParameterContext parametro, ExtensionContext contexto) {
+        return this;
+    }
+
+    /**
+     * Bytes alocados por {@link #ITERACOES} execuções do bloco, na menor das rodadas.
+     */
+    public long bytesAlocados(Supplier<?> operacao) {
+        for (int i = 0; i < AQUECIMENTO; i++) {
+            sumidouro = operacao.get();
+        }
+        long menor = Long.MAX_VALUE;
+        for (int rodada = 0; rodada < RODADAS && menor > 0; rodada++) {
+            long antes = threadMXBean.getCurrentThreadAllocatedBytes();
+            for (int i = 0; i < ITERACOES; i++) {
+                sumidouro = operacao.get();
+            }
+            long depois = threadMXBean.getCurrentThreadAllocatedBytes();
+            menor = Math.min(menor, depois - antes);
+        }
+        return menor;
+    }
+
+    /**
+     * Bytes alocados por execução do bloco, arredondados para baixo.
+     */
+    public long bytesPorOperacao(Supplier<?> operacao) {
+        return bytesAlocados(operacao) / ITERACOES;
+    }
+
+    /**
+     * Falha se uma execução do bloco alocar mais que {@code orcamento} bytes.
+     */
+    public void assertOrcamento(long orcamento, String descricao, Supplier<?> operacao) {
+        long medido = bytesPorOperacao(operacao);
+        if (medido > orcamento) {
+            fail(descricao + ": alocou " + medido + " bytes por operação, orçamento de " + orcamento);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package org.com.pangolin.domain.core;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.com.pangolin.carteira.core.validacoes.MetricasValidacao;
+import org.com.pangolin.carteira.core.validacoes.ResultadoValidacao;
+import org.com.pangolin.carteira.core.validacoes.Validacoes;
+import org.com.pangolin.carteira.core.validacoes.Validator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MetricasValidacaoTest {
+
+    @AfterEach
+    void desligar() {
+        MetricasValidacao.desativar();
+        MetricasValidacao.semEventosJfr();
+    }
+
+    @Test
+    void desligada_naoDeveRegistrar() {
+        Validator<String> regra = Validacoes.<String>val_tam_min(3).comMetricas("teste.desligada");
+
+        assertFalse(regra.validar("ab").isEmpty());
+
+        assertEquals(0, MetricasValidacao.instantaneo().get("teste.desligada").invocacoes());
+    }
+
+    @Test
+    void ligada_deveContarInvocacoesFalhasELatencia() {
+        Validator<String> regra = Validacoes.<String>val_tam_min(3).comMetricas("teste.ligada");
+        MetricasValidacao.ativar();
+
+        for (int i = 0; i < 10; i++) {
+            regra.validar(i < 4 ? "ab" : "abcd");
+        }
+        assertThrows(NullPointerException.class, () -> regra.validar(null));
+
+        MetricasValidacao.Instantaneo retrato = MetricasValidacao.instantaneo().get("teste.ligada");
+        assertEquals(11, retrato.invocacoes());
+        assertEquals(5, retrato.falhas());
+        assertEquals(11, Arrays.stream(retrato.histograma()).sum());
+        assertTrue(retrato.percentilNanos(99) >= retrato.percentilNanos(50));
+        assertEquals(5.0 / 11, retrato.taxaFalha(), 1e-9);
+
+        MetricasValidacao.zerar();
+        assertEquals(0, MetricasValidacao.instantaneo().get("teste.ligada").invocacoes());
+    }
+
+    @Test
+    void campoInvalido_registrado_deveSerContado() {
+        MetricasValidacao.contarCampo("teste");
+        MetricasValidacao.ativar();
+        long antes = contagem("campo.teste");
+
+        ResultadoValidacao.invalidar("teste", "COD", "msg");
+        ResultadoValidacao.invalidar("teste", List.of(Validacoes.NAO_NULO.validar(null).getFirst()));
+
+        assertEquals(antes + 2, contagem("campo.teste"));
+    }
+
+    @Test
+    void campoInvalido_naoRegistrado_naoDeveCriarContadores() {
+        MetricasValidacao.ativar();
+
+        ResultadoValidacao.invalidar("teste.avulso", "COD", "msg");
+
+        assertFalse(MetricasValidacao.instantaneo().containsKey("campo.teste.avulso"));
+        assertThrows(IllegalArgumentException.class, () -> MetricasValidacao.contarCampo(" "));
+    }
+
+    @Test
+    void instantaneo_naoDeveExporOHistograma() {
+        long[] faixas = {1, 2};
+        MetricasValidacao.Instantaneo retrato = new MetricasValidacao.Instantaneo("regra", 3, 0, faixas);
+
+        faixas[0] = 99;
+        retrato.histograma()[1] = 99;
+
+        assertArrayEquals(new long[]{1, 2}, retrato.histograma());
+        assertEquals(new MetricasValidacao.Instantaneo("regra", 3, 0, new long[]{1, 2}), retrato);
+        assertEquals(new MetricasValidacao.Instantaneo("regra", 3, 0, new long[]{1, 2}).hashCode(), retrato.hashCode());
+    }
+
+    private static long contagem(String nome) {
+        MetricasValidacao.Instantaneo retrato = MetricasValidacao.instantaneo().get(nome);
+        return retrato == null ? 0 : retrato.falhas();
+    }
+
+    @Test
+    void validacaoLenta_deveEmitirEventoJfr(@TempDir Path pasta) throws Exception {
+        Validator<String> lenta = Validator.<String>of(s -> {
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return false;
+        }, "lenta").comMetricas("teste.lenta");
+        MetricasValidacao.ativar();
+        MetricasValidacao.comEventosJfr(Duration.ofMillis(1));
+        Path arquivo = pasta.resolve("validacao.jfr");
+
+        try (Recording gravacao = new Recording()) {
+            gravacao.enable("org.com.pangolin.validacao.ValidacaoLenta");
+            gravacao.start();
+            lenta.validar("x");
+            gravacao.stop();
+            gravacao.dump(arquivo);
+        }
+
+        List<RecordedEvent> eventos = RecordingFile.readAllEvents(arquivo).stream()
+                .filter(e -> e.getEventType().getName().equals("org.com.pangolin.validacao.ValidacaoLenta"))
+                .toList();
+        assertEquals(1, eventos.size());
+        assertEquals("teste.lenta", eventos.getFirst().getString("regra"));
+        assertTrue(eventos.getFirst().getBoolean("falhou"));
+    }
+}
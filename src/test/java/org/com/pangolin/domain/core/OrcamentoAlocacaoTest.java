@@ -0,0 +1,125 @@
+package org.com.pangolin.domain.core;
+
+import org.com.pangolin.carteira.core.comandos.CarteiraComandoExecutor;
+import org.com.pangolin.carteira.core.validacoes.LongValidator;
+import org.com.pangolin.carteira.core.validacoes.ResultadoValidacao;
+import org.com.pangolin.carteira.core.validacoes.Validacoes;
+import org.com.pangolin.carteira.core.validacoes.ValidacoesPrimitivas;
+import org.com.pangolin.carteira.core.validacoes.Validator;
+import org.com.pangolin.carteira.inicializacao.entidade.Carteira;
+import org.com.pangolin.carteira.inicializacao.entidade.Parcela;
+import org.com.pangolin.carteira.inicializacao.entidade.ParcelaId;
+import org.com.pangolin.carteira.inicializacao.eventos.entrada.DadosDoEventoContrato;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MedidorAlocacao.class)
+class OrcamentoAlocacaoTest {
+
+    private final DadosDoEventoContrato dadosValidos = ContratosDeTeste.VALIDO;
+    private final DadosDoEventoContrato dadosInvalidos = ContratosDeTeste.SEM_NUMERO;
+
+    @Test
+    void validarCarteira_valida_naoDeveAlocar(MedidorAlocacao medidor) {
+        medidor.assertOrcamento(0, "Carteira.validarCarteira válida",
+                () -> Carteira.validarCarteira(dadosValidos));
+        assertSame(ResultadoValidacao.VALIDO, Carteira.validarCarteira(dadosValidos));
+    }
+
+    @Test
+    void validadorCarteiraId_valido_naoDeveAlocar(MedidorAlocacao medidor) {
+        Validator<String> validador = Validacoes.carteiraId(Validator.CODE_PADRAO);
+
+        medidor.assertOrcamento(0, "Validacoes.carteiraId válido", () -> validador.validar(ContratosDeTeste.NUMERO_VALIDO));
+    }
+
+    @Test
+    void validadorComposto_valido_naoDeveAlocar(MedidorAlocacao medidor) {
+        Validator<String> validador = Validacoes.NAO_NULO_NEM_VAZIO
+                .and(Validacoes.val_tam_min(3))
+                .and(Validacoes.val_regex("^[A-Z]+-\\d+$"));
+
+        medidor.assertOrcamento(0, "Cadeia and válida", () -> validador.validar(ContratosDeTeste.NUMERO_VALIDO));
+    }
+
+    @Test
+    void validadorPrimitivo_loteValido_naoDeveAlocar(MedidorAlocacao medidor) {
+        LongValidator validador = ValidacoesPrimitivas.CENTAVOS_MAIOR_QUE_ZERO
+                .and(ValidacoesPrimitivas.longNoIntervalo(1, 1_000_000));
+        long[] centavos = {1_050, 99_999, 1, 250_000};
+
+        assertEquals(-1, validador.primeiroInvalido(centavos));
+        medidor.assertOrcamento(0, "LongValidator.primeiroInvalido válido", () -> validador.primeiroInvalido(centavos));
+    }
+
+    @Test
+    void combinar_comLadoValido_naoDeveAlocar(MedidorAlocacao medidor) {
+        ResultadoValidacao invalido = ResultadoValidacao.invalidar("campo", "COD", "msg");
+
+        assertSame(invalido, invalido.combinar(ResultadoValidacao.VALIDO));
+        assertSame(ResultadoValidacao.VALIDO, ResultadoValidacao.VALIDO.combinar(ResultadoValidacao.VALIDO));
+        medidor.assertOrcamento(0, "combinar com VALIDO", () -> invalido.combinar(ResultadoValidacao.VALIDO));
+    }
+
+    /**
+     * Bytes de um {@code new ParcelaId(...)}, um objeto com uma única referência, medidos na JVM
+     * atual; serve de unidade para os orçamentos, sem supor o layout dos objetos.
+     */
+    private static long tamanhoParcelaId(MedidorAlocacao medidor) {
+        String valor = "123";
+        return medidor.bytesPorOperacao(() -> new ParcelaId(valor));
+    }
+
+    @Test
+    void parcelaId_of_deveAlocarApenasAInstancia(MedidorAlocacao medidor) {
+        String valor = "123";
+
+        medidor.assertOrcamento(tamanhoParcelaId(medidor), "ParcelaId.of", () -> ParcelaId.of(valor));
+    }
+
+    @Test
+    void parcela_build_deveAlocarApenasBuilderEInstancia(MedidorAlocacao medidor) {
+        ParcelaId id = ParcelaId.of("1");
+        BigDecimal valor = new BigDecimal("100.00");
+        LocalDate vencimento = LocalDate.of(2030, 1, 10);
+
+        // Builder e Parcela; as regras do builder não alocam. A Parcela, com seis referências,
+        // cabe em três objetos de uma referência em qualquer layout da HotSpot.
+        long orcamento = medidor.bytesPorOperacao(Parcela::criarParcela) + 3 * tamanhoParcelaId(medidor);
+        medidor.assertOrcamento(orcamento, "Parcela.criarParcela().build()", () -> Parcela.criarParcela()
+                .comId(id)
+                .comValor(valor)
+                .comDataVencimento(vencimento)
+                .build());
+    }
+
+    @Test
+    void executarCarteiraValidada_valida_deveAlocarApenasOResultado(MedidorAlocacao medidor) {
+        // Apenas o ResultadoOuErro.Direito, que tem uma única referência, como o ParcelaId.
+        medidor.assertOrcamento(tamanhoParcelaId(medidor), "executarCarteiraValidada válida",
+                () -> CarteiraComandoExecutor.executarCarteiraValidada(
+                        dadosValidos, Carteira::validarCarteira, DadosDoEventoContrato::numeroDoContrato));
+    }
+
+    @Test
+    void executarCarteiraValidada_invalida_naoDeveExecutarOperacao(MedidorAlocacao medidor) {
+        assertTrue(CarteiraComandoExecutor.executarCarteiraValidada(
+                dadosInvalidos, Carteira::validarCarteira, dados -> fail("Operação não deveria executar")).isEsquerdo());
+        // Erros do campo inválido e o ResultadoValidacao que os agrupa: algumas dezenas de
+        // objetos pequenos.
+        medidor.assertOrcamento(36 * tamanhoParcelaId(medidor), "executarCarteiraValidada inválida",
+                () -> CarteiraComandoExecutor.executarCarteiraValidada(
+                        dadosInvalidos, Carteira::validarCarteira, DadosDoEventoContrato::numeroDoContrato));
+    }
+
+    @Test
+    void medidor_deveDetectarAlocacao(MedidorAlocacao medidor) {
+        assertTrue(medidor.bytesPorOperacao(() -> new long[16]) >= 16 * Long.BYTES);
+        assertEquals(0, medidor.bytesPorOperacao(() -> ResultadoValidacao.VALIDO));
+    }
+}
@@ -0,0 +1,114 @@
+package org.com.pangolin.domain.core;
+
+import org.com.pangolin.carteira.core.validacoes.PlanoLista;
+import org.com.pangolin.carteira.core.validacoes.Validacoes;
+import org.com.pangolin.carteira.core.validacoes.Validator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlanoListaTest {
+
+    private static final Predicate<Integer> PAR = n -> n % 2 == 0;
+    private static final Predicate<Integer> NEGATIVO = n -> n < 0;
+
+    private static final Validator<List<Integer>> SEPARADAS = Validacoes.<Integer>val_lista_tam_min(3)
+            .and(Validacoes.val_lista_sem_nulos())
+            .and(Validacoes.val_lista_ordenada(true))
+            .and(Validacoes.val_lista_max_maior_que(10))
+            .and(Validacoes.val_lista_intervalo_extremos(2, 20))
+            .and(Validacoes.val_lista_todos_atendem(PAR, "todos pares"))
+            .and(Validacoes.val_lista_algum_atende(PAR, "algum par"))
+            .and(Validacoes.val_lista_nenhum_atende(NEGATIVO, "nenhum negativo"));
+
+    private static final PlanoLista<Integer> FUNDIDA = Validacoes.<Integer>val_lista_fundida()
+            .comTamanhoMinimo(3)
+            .semNulos()
+            .ordenada(true)
+            .comMaximoMaiorQue(10)
+            .comIntervaloExtremos(2, 20)
+            .todosAtendem(PAR, "todos pares")
+            .algumAtende(PAR, "algum par")
+            .nenhumAtende(NEGATIVO, "nenhum negativo")
+            .construir();
+
+    @Test
+    void fundida_deveProduzirOsMesmosErrosQueAsRegrasSeparadas() {
+        List<List<Integer>> casos = List.of(
+                List.of(),
+                List.of(4),
+                List.of(0, 2, 30),
+                List.of(1, 4, 22),
+                List.of(30, 2, 0),
+                List.of(-2, 4, 8),
+                List.of(3, 5, 7, 9),
+                List.of(5, 5, 5));
+
+        for (List<Integer> lista : casos) {
+            assertEquals(SEPARADAS.validar(lista), FUNDIDA.validar(lista), lista::toString);
+            assertEquals(SEPARADAS.validar(lista), FUNDIDA.validar(new LinkedList<>(lista)), lista::toString);
+        }
+    }
+
+    @Test
+    void fundida_deveReutilizarOsErrosCanonicosDasRegrasSeparadas() {
+        List<Integer> lista = List.of(1);
+        PlanoLista<Integer> plano = PlanoLista.<Integer>criar().comTamanhoMinimo(3).construir();
+
+        assertSame(Validacoes.<Integer>val_lista_tam_min(3).validar(lista).getFirst(),
+                plano.validar(lista).getFirst());
+    }
+
+    @Test
+    void fundida_deveRespeitarOrdemDecrescenteEMinimo() {
+        Validator<List<Integer>> separadas = Validacoes.<Integer>val_lista_ordenada(false)
+                .and(Validacoes.val_lista_min_menor_que(0))
+                .and(Validacoes.val_lista_tam_max(2))
+                .and(Validacoes.val_lista_tam_exato(3))
+                .and(Validacoes.listaNaoVazia());
+        PlanoLista<Integer> fundida = PlanoLista.<Integer>criar()
+                .ordenada(false)
+                .comMinimoMenorQue(0)
+                .comTamanhoMaximo(2)
+                .comTamanhoExato(3)
+                .naoVazia()
+                .construir();
+
+        for (List<Integer> lista : List.of(List.of(3, 2, -1), List.of(1, 2, 3), List.<Integer>of())) {
+            assertEquals(separadas.validar(lista), fundida.validar(lista), lista::toString);
+        }
+    }
+
+    @Test
+    void fundida_deveParar_quandoNenhumElementoMudaOResultado() {
+        AtomicInteger avaliados = new AtomicInteger();
+        List<Integer> lista = new ArrayList<>(Arrays.asList(3, 1, null));
+        lista.addAll(Collections.nCopies(10_000, 7));
+        PlanoLista<Integer> plano = PlanoLista.<Integer>criar()
+                .semNulos()
+                .ordenada(true)
+                .algumAtende(n -> avaliados.incrementAndGet() > 0 && n != null && n == 1, "algum um")
+                .construir();
+
+        List<?> erros = plano.validar(lista);
+
+        assertEquals(2, erros.size());
+        assertEquals(2, avaliados.get());
+    }
+
+    @Test
+    void fundida_deveTratarListaNulaComoAsRegrasSeparadas() {
+        PlanoLista<Integer> extremos = PlanoLista.<Integer>criar().comMaximoMaiorQue(1).construir();
+
+        assertEquals(Validacoes.<Integer>val_lista_max_maior_que(1).validar(null), extremos.validar(null));
+        assertThrows(NullPointerException.class, () -> FUNDIDA.validar(null));
+    }
+}
@@ -0,0 +1,120 @@
+package org.com.pangolin.domain.core;
+
+import org.com.pangolin.carteira.core.validacoes.RegrasData;
+import org.com.pangolin.carteira.core.validacoes.Validacoes;
+import org.com.pangolin.carteira.core.validacoes.Validator;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.TimeZone;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RegrasDataTest {
+
+    private static final LocalDate HOJE = LocalDate.of(2026, 3, 10);
+    private static final Clock RELOGIO_FIXO = Clock.fixed(Instant.parse("2026-03-10T12:00:00Z"), ZoneOffset.UTC);
+
+    /** Relógio ajustável, para simular a virada do dia. */
+    private static final class RelogioManual extends Clock {
+        private Instant agora;
+        private int leituras;
+
+        RelogioManual(Instant agora) {
+            this.agora = agora;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.of("America/Sao_Paulo");
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            leituras++;
+            return agora;
+        }
+    }
+
+    @Test
+    void regrasDoSistema_devemSeguirMudancaDoFusoPadrao() {
+        TimeZone original = TimeZone.getDefault();
+        RegrasData regras = RegrasData.doSistema();
+        try {
+            // UTC+14 e UTC-12 estão sempre em dias diferentes.
+            for (String fuso : List.of("Pacific/Kiritimati", "Etc/GMT+12", "Pacific/Kiritimati")) {
+                TimeZone.setDefault(TimeZone.getTimeZone(fuso));
+
+                assertEquals(LocalDate.now().toEpochDay(), regras.hojeEmDias(), fuso);
+            }
+        } finally {
+            TimeZone.setDefault(original);
+        }
+    }
+
+    @Test
+    void regrasDoSistema_devemConcordarComValidacoes() {
+        RegrasData regras = RegrasData.doSistema();
+        LocalDate hoje = LocalDate.now();
+
+        for (LocalDate data : List.of(hoje.minusDays(40), hoje.minusDays(1), hoje, hoje.plusDays(1), hoje.plusDays(40))) {
+            assertAll(data.toString(),
+                    () -> assertEquals(Validacoes.val_data_antes_de(5).validar(data), regras.antesDe(5).validar(data)),
+                    () -> assertEquals(Validacoes.val_data_depois_de(5).validar(data), regras.depoisDe(5).validar(data)),
+                    () -> assertEquals(Validacoes.val_data_no_periodo(3, 7).validar(data),
+                            regras.noPeriodo(3, 7).validar(data)),
+                    () -> assertEquals(Validacoes.val_data_futura().validar(data), regras.futura().validar(data)),
+                    () -> assertEquals(Validacoes.val_data_passada().validar(data), regras.passada().validar(data)));
+        }
+    }
+
+    @Test
+    void relogioFixo_deveDefinirHoje() {
+        RegrasData regras = RegrasData.com(RELOGIO_FIXO);
+
+        assertEquals(HOJE.toEpochDay(), regras.hojeEmDias());
+        assertTrue(regras.futura().validar(HOJE.plusDays(1)).isEmpty());
+        assertFalse(regras.futura().validar(HOJE).isEmpty());
+        assertTrue(regras.noPeriodoEmDias(0, 0).validar(HOJE.toEpochDay()).isEmpty());
+        assertFalse(regras.antesDeEmDias(0).validar(HOJE.toEpochDay()).isEmpty());
+        assertThrows(NullPointerException.class, () -> regras.antesDe(1).validar(null));
+    }
+
+    @Test
+    void hoje_deveMudarNaViradaDoDia_noFusoDoRelogio() {
+        RelogioManual relogio = new RelogioManual(Instant.parse("2026-03-11T02:59:59Z"));
+        RegrasData regras = RegrasData.com(relogio);
+        Validator<LocalDate> passada = regras.passada();
+
+        assertTrue(passada.validar(HOJE.minusDays(1)).isEmpty());
+        assertFalse(passada.validar(HOJE).isEmpty());
+
+        relogio.agora = Instant.parse("2026-03-11T03:00:00Z");
+        assertTrue(passada.validar(HOJE).isEmpty());
+    }
+
+    @Test
+    void paraLote_naoDeveLerORelogio() {
+        RelogioManual relogio = new RelogioManual(Instant.parse("2026-03-10T15:00:00Z"));
+        RegrasData lote = RegrasData.com(relogio).paraLote();
+        int leiturasAntes = relogio.leituras;
+
+        Validator<LocalDate> vencimento = lote.depoisDe(0).and(lote.antesDe(365));
+        for (int i = 1; i < 1_000; i++) {
+            assertTrue(vencimento.validar(HOJE.plusDays(i % 300 + 1)).isEmpty());
+        }
+
+        assertEquals(leiturasAntes, relogio.leituras);
+        assertEquals(RegrasData.noDia(HOJE).hojeEmDias(), lote.hojeEmDias());
+    }
+}
@@ -0,0 +1,153 @@
+package org.com.pangolin.domain.core;
+
+import org.com.pangolin.carteira.core.validacoes.ErrosValidacao;
+import org.com.pangolin.carteira.core.validacoes.ResultadoOuErro;
+import org.com.pangolin.carteira.core.validacoes.ResultadoValidacao;
+import org.com.pangolin.carteira.core.validacoes.ValidacaoEstruturada;
+import org.com.pangolin.carteira.core.validacoes.Validator;
+import org.com.pangolin.carteira.inicializacao.AberturaCarteiraExecutor;
+import org.com.pangolin.carteira.inicializacao.entidade.Carteira;
+import org.com.pangolin.carteira.inicializacao.eventos.entrada.DadosDoEventoContrato;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ValidacaoEstruturadaTest {
+
+    private static final List<ErrosValidacao> ERRO = List.of(new ErrosValidacao("COD", "Inválido", false));
+
+    private final DadosDoEventoContrato dadosValidos = ContratosDeTeste.VALIDO;
+
+    private static List<ErrosValidacao> dormir(long millis, List<ErrosValidacao> erros) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return erros;
+    }
+
+    @Test
+    void validar_regrasLentas_deveLevarOTempoDaMaisLenta() {
+        ValidacaoEstruturada<String> validacao = ValidacaoEstruturada.<String>criar()
+                .regra("a", v -> dormir(200, List.of()))
+                .regra("b", v -> dormir(200, List.of()))
+                .regra("c", v -> dormir(200, List.of()))
+                .regra("d", v -> dormir(200, List.of()))
+                .construir();
+
+        long inicio = System.nanoTime();
+        ResultadoValidacao resultado = validacao.validar("x");
+        long decorrido = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio);
+
+        assertSame(ResultadoValidacao.VALIDO, resultado);
+        assertTrue(decorrido < 700, "Esperado perto de 200 ms, levou " + decorrido + " ms");
+    }
+
+    @Test
+    void validar_deveJuntarNaOrdemDeclarada() {
+        ValidacaoEstruturada<String> validacao = ValidacaoEstruturada.<String>criar()
+                .regra("PRIMEIRO", v -> dormir(100, ERRO))
+                .regra("SEGUNDO", v -> dormir(50, ERRO))
+                .regra("TERCEIRO", v -> ERRO)
+                .regra("PRIMEIRO", v -> ERRO)
+                .construir();
+
+        ResultadoValidacao resultado = validacao.validar("x");
+
+        assertEquals(List.of("PRIMEIRO", "SEGUNDO", "TERCEIRO"), List.copyOf(resultado.erros().keySet()));
+        assertEquals(2, resultado.errorPorCampo("PRIMEIRO").size());
+    }
+
+    @Test
+    void validar_prazoExcedido_deveCancelarERegistrarErroNoCampo() {
+        CountDownLatch interrompida = new CountDownLatch(1);
+        ValidacaoEstruturada<String> validacao = ValidacaoEstruturada.<String>criar()
+                .regra("RAPIDA", v -> List.of())
+                .regra("LENTA", v -> {
+                    try {
+                        Thread.sleep(10_000);
+                    } catch (InterruptedException e) {
+                        interrompida.countDown();
+                    }
+                    return List.of();
+                })
+                .comPrazo(Duration.ofMillis(100))
+                .construir();
+
+        ResultadoValidacao resultado = validacao.validar("x");
+
+        assertEquals(Set.of("LENTA"), resultado.erros().keySet());
+        assertTrue(resultado.contemCodigoDeErro(ValidacaoEstruturada.CODIGO_PRAZO_EXCEDIDO));
+        assertEquals(0, interrompida.getCount(), "A subtarefa deve ter sido interrompida antes do retorno");
+    }
+
+    @Test
+    void validar_erroFatal_deveCancelarIrmasELancar() {
+        CountDownLatch interrompida = new CountDownLatch(1);
+        ValidacaoEstruturada<String> validacao = ValidacaoEstruturada.<String>criar()
+                .regra("LENTA", v -> {
+                    try {
+                        Thread.sleep(10_000);
+                    } catch (InterruptedException e) {
+                        interrompida.countDown();
+                    }
+                    return List.of();
+                })
+                .regra("FATAL", v -> List.of(new ErrosValidacao("FATAL_ERROR", "Contrato bloqueado", true)))
+                .construir();
+
+        long inicio = System.nanoTime();
+        Validator.ValidacaoException e = assertThrows(Validator.ValidacaoException.class, () -> validacao.validar("x"));
+
+        assertEquals("FATAL_ERROR", e.erroFatal().orElseThrow().codigo());
+        assertEquals(0, interrompida.getCount());
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio) < 5_000);
+    }
+
+    @Test
+    void validar_excecaoNaRegra_devePropagar() {
+        ValidacaoEstruturada<String> validacao = ValidacaoEstruturada.<String>criar()
+                .regra("a", v -> {
+                    throw new IllegalArgumentException("falhou");
+                })
+                .construir();
+
+        assertThrows(IllegalArgumentException.class, () -> validacao.validar("x"));
+    }
+
+    @Test
+    void builder_invalido_deveLancar() {
+        assertThrows(IllegalStateException.class, () -> ValidacaoEstruturada.<String>criar().construir());
+        assertThrows(IllegalArgumentException.class,
+                () -> ValidacaoEstruturada.<String>criar().comPrazo(Duration.ZERO));
+    }
+
+    @Test
+    void carteira_validacaoEstruturada_deveEquivalerASequencial() {
+        ValidacaoEstruturada<DadosDoEventoContrato> validacao = Carteira.validacaoEstruturada().construir();
+        DadosDoEventoContrato invalido = ContratosDeTeste.VAZIO;
+
+        assertSame(ResultadoValidacao.VALIDO, validacao.validar(dadosValidos));
+        assertEquals(Carteira.validarCarteira(invalido).erros(), validacao.validar(invalido).erros());
+    }
+
+    @Test
+    void executor_comValidacaoEstruturada_deveAplicarRegrasExtras() {
+        AberturaCarteiraExecutor executor = AberturaCarteiraExecutor.criar(Carteira.validacaoEstruturada()
+                .regra("CONTRATO_DUPLICADO", dados -> dormir(20, ERRO))
+                .comPrazo(Duration.ofSeconds(2))
+                .construir());
+
+        ResultadoOuErro<ResultadoValidacao, Carteira> resultado = executor.processar(dadosValidos);
+
+        assertTrue(resultado.isEsquerdo());
+        assertTrue(executor.validarBusinessRules(dadosValidos).existeErroPorCampo("CONTRATO_DUPLICADO"));
+    }
+}
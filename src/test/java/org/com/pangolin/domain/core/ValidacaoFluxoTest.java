@@ -0,0 +1,103 @@
+package org.com.pangolin.domain.core;
+
+import org.com.pangolin.carteira.core.validacoes.ErrosValidacao;
+import org.com.pangolin.carteira.core.validacoes.PlanoLista;
+import org.com.pangolin.carteira.core.validacoes.Validacoes;
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ValidacaoFluxoTest {
+
+    private static final PlanoLista<Integer> PLANO = Validacoes.<Integer>val_lista_fundida()
+            .comTamanhoMinimo(3)
+            .comTamanhoMaximo(1_000)
+            .semNulos()
+            .ordenada(true)
+            .comIntervaloExtremos(0, 500)
+            .nenhumAtende(n -> n == 42, "sem 42")
+            .construir();
+
+    @Test
+    void fluxo_deveProduzirOsMesmosErrosQueALista() {
+        List<List<Integer>> casos = List.of(
+                List.of(),
+                List.of(1, 2),
+                IntStream.range(-5, 900).boxed().toList(),
+                IntStream.range(-5, 2_000).boxed().toList(),
+                List.of(5, 42, 3, 600));
+
+        for (List<Integer> lista : casos) {
+            List<ErrosValidacao> esperado = PLANO.validar(lista);
+            assertEquals(esperado, PLANO.validarFluxo(lista.iterator()));
+            assertEquals(esperado, PLANO.validarFluxo(lista.spliterator()));
+            assertEquals(esperado, PLANO.validarFluxo(lista.stream().filter(n -> true)));
+        }
+    }
+
+    @Test
+    void fluxo_semRegrasDeTamanho_deveTerminarEmEntradaInfinita() {
+        PlanoLista<Integer> plano = PlanoLista.<Integer>criar()
+                .ordenada(true)
+                .algumAtende(n -> n > 10, "algum maior que 10")
+                .construir();
+
+        List<ErrosValidacao> erros = plano.validarFluxo(Stream.iterate(20, n -> n - 1));
+
+        assertEquals(Validacoes.<Integer>val_lista_ordenada(true).validar(List.of(2, 1)), erros);
+    }
+
+    @Test
+    void fluxo_comRegrasDeTamanhoDecididas_deveTerminarEmEntradaInfinita() {
+        Iterator<Integer> infinito = new Iterator<>() {
+            private int proximo;
+
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public Integer next() {
+                return proximo++;
+            }
+        };
+        PlanoLista<Integer> plano = PlanoLista.<Integer>criar()
+                .naoVazia()
+                .comTamanhoMinimo(5)
+                .comTamanhoMaximo(100)
+                .nenhumAtende(n -> n == 50, "sem 50")
+                .construir();
+
+        List<ErrosValidacao> erros = plano.validarFluxo(infinito);
+
+        assertEquals(plano.validar(IntStream.range(0, 101).boxed().toList()), erros);
+        assertEquals(101, infinito.next(), "Deve parar logo depois de passar do tamanho máximo");
+
+        PlanoLista<Integer> naoVazia = PlanoLista.<Integer>criar().naoVazia().construir();
+        assertTrue(naoVazia.validarFluxo(Stream.iterate(0, n -> n + 1)).isEmpty());
+        assertTrue(naoVazia.validarFluxo(Stream.iterate(0, n -> n + 1).iterator()).isEmpty());
+    }
+
+    @Test
+    void estado_deveAntecipar_apenasErrosDefinitivos() {
+        PlanoLista<Integer>.Estado estado = PLANO.iniciar();
+
+        estado.aceitar(10);
+        estado.aceitar(20);
+        assertTrue(estado.errosParciais().isEmpty());
+
+        estado.aceitar(15);
+        assertEquals(Validacoes.<Integer>val_lista_ordenada(true).validar(List.of(2, 1)), estado.errosParciais());
+
+        estado.aceitar(42);
+        assertEquals(2, estado.errosParciais().size());
+        assertEquals(4, estado.quantidade());
+        assertEquals(PLANO.validar(List.of(10, 20, 15, 42)), estado.concluir());
+    }
+}
@@ -0,0 +1,84 @@
+package org.com.pangolin.domain.core;
+
+import org.com.pangolin.carteira.core.validacoes.ErrosValidacao;
+import org.com.pangolin.carteira.core.validacoes.IntValidator;
+import org.com.pangolin.carteira.core.validacoes.ResultadoLote;
+import org.com.pangolin.carteira.core.validacoes.Validacoes;
+import org.com.pangolin.carteira.core.validacoes.Validator;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ValidacaoLoteTest {
+
+    private static List<String> codigos(List<ErrosValidacao> erros) {
+        return erros.stream().map(ErrosValidacao::codigo).toList();
+    }
+
+    @Test
+    void validarLote_todosValidos_naoDeveGuardarErros() {
+        List<String> ids = IntStream.range(0, 1_000).mapToObj(i -> String.format("WALLET-%06d", i)).toList();
+
+        ResultadoLote lote = Validacoes.carteiraId(Validator.CODE_PADRAO).validarLote(ids);
+
+        assertAll(
+                () -> assertTrue(lote.todosValidos()),
+                () -> assertEquals(1_000, lote.tamanho()),
+                () -> assertEquals(-1, lote.proximaFalha(0)),
+                () -> assertTrue(lote.errosPorIndice().isEmpty()),
+                () -> assertEquals(List.of(), lote.erros(10))
+        );
+    }
+
+    @Test
+    void validarLote_deveMarcarSomenteIndicesComFalha() {
+        Validator<String> validador = Validator.of(s -> !s.isEmpty(), "VAZIO", "Vazio");
+
+        ResultadoLote lote = validador.validarLote(List.of("a", "", "b", "", "c"));
+
+        BitSet esperado = new BitSet();
+        esperado.set(1);
+        esperado.set(3);
+        assertAll(
+                () -> assertEquals(esperado, lote.falhas()),
+                () -> assertEquals(2, lote.quantidadeFalhas()),
+                () -> assertEquals(List.of(1, 3), List.copyOf(lote.errosPorIndice().keySet())),
+                () -> assertEquals(List.of("VAZIO"), codigos(lote.erros(3))),
+                () -> assertFalse(lote.falhou(2))
+        );
+    }
+
+    @Test
+    void validarLote_planoCompilado_deveRegistrarErroFatalSemInterromperOLote() {
+        Validator<String> validador = Validator.<String>of(s -> !s.startsWith("x"), "X", "Começa com x", true)
+                .and(Validator.of(s -> s.length() > 1, "CURTA", "Curta"));
+
+        ResultadoLote lote = validador.validarLote(List.of("x", "ab", "c"));
+
+        assertAll(
+                () -> assertThrows(Validator.ValidacaoException.class, () -> validador.validar("x")),
+                () -> assertEquals(List.of("X", "CURTA"), codigos(lote.erros(0))),
+                () -> assertTrue(lote.erros(1).isEmpty()),
+                () -> assertEquals(List.of("CURTA"), codigos(lote.erros(2)))
+        );
+    }
+
+    @Test
+    void validarLote_arrayPrimitivo_deveUsarMesmoFormato() {
+        IntValidator validador = IntValidator.of(v -> v >= 0, "NEG", "Negativo", true)
+                .and(IntValidator.of(v -> v % 2 == 0, "PAR", "Deve ser par"));
+
+        ResultadoLote lote = validador.validarLote(new int[]{2, -1, 4, 5});
+
+        assertAll(
+                () -> assertEquals(1, lote.proximaFalha(0)),
+                () -> assertEquals(3, lote.proximaFalha(2)),
+                () -> assertEquals(List.of("NEG", "PAR"), codigos(lote.erros(1))),
+                () -> assertEquals(List.of("PAR"), codigos(lote.erros(3)))
+        );
+    }
+}
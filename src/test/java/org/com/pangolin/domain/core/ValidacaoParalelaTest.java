@@ -0,0 +1,83 @@
+package org.com.pangolin.domain.core;
+
+import org.com.pangolin.carteira.core.validacoes.ConfiguracaoParalela;
+import org.com.pangolin.carteira.core.validacoes.Validacoes;
+import org.com.pangolin.carteira.core.validacoes.Validator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ValidacaoParalelaTest {
+
+    private static final ConfiguracaoParalela PARTES_PEQUENAS = ConfiguracaoParalela.comLimiar(64);
+    private static final List<Integer> NUMEROS = IntStream.range(0, 50_000).boxed().toList();
+
+    private static <T> void assertMesmoResultado(Validator<List<T>> sequencial, Validator<List<T>> paralelo,
+                                                 List<T> lista) {
+        assertEquals(sequencial.validar(lista), paralelo.validar(lista));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {-1, 0, 25_000, 49_999, 50_000})
+    void paralelo_deveConcordarComSequencial(int referencia) {
+        Predicate<Integer> maiorQueReferencia = n -> n > referencia;
+
+        assertAll(
+                () -> assertMesmoResultado(Validacoes.val_lista_algum_atende(maiorQueReferencia, "algum"),
+                        Validacoes.val_lista_algum_atende(maiorQueReferencia, "algum", PARTES_PEQUENAS), NUMEROS),
+                () -> assertMesmoResultado(Validacoes.val_lista_nenhum_atende(maiorQueReferencia, "nenhum"),
+                        Validacoes.val_lista_nenhum_atende(maiorQueReferencia, "nenhum", PARTES_PEQUENAS), NUMEROS),
+                () -> assertMesmoResultado(Validacoes.val_lista_todos_atendem(maiorQueReferencia, "todos"),
+                        Validacoes.val_lista_todos_atendem(maiorQueReferencia, "todos", PARTES_PEQUENAS), NUMEROS),
+                () -> assertMesmoResultado(Validacoes.val_lista_max_maior_que(referencia),
+                        Validacoes.val_lista_max_maior_que(referencia, PARTES_PEQUENAS), NUMEROS),
+                () -> assertMesmoResultado(Validacoes.val_lista_min_menor_que(referencia),
+                        Validacoes.val_lista_min_menor_que(referencia, PARTES_PEQUENAS), NUMEROS)
+        );
+    }
+
+    @Test
+    void semNulos_paralelo_deveEncontrarNuloEmQualquerParte() {
+        List<Integer> comNulo = new ArrayList<>(NUMEROS);
+        comNulo.set(37_123, null);
+
+        assertFalse(Validacoes.<Integer>val_lista_sem_nulos(PARTES_PEQUENAS).validar(comNulo).isEmpty());
+        assertTrue(Validacoes.<Integer>val_lista_sem_nulos(PARTES_PEQUENAS).validar(NUMEROS).isEmpty());
+    }
+
+    @Test
+    void algumAtende_paralelo_deveCancelarAsDemaisPartes() {
+        AtomicInteger avaliados = new AtomicInteger();
+        Integer[] numeros = new Integer[1_000_000];
+        Arrays.fill(numeros, 0);
+        numeros[10] = 1;
+
+        Validator<List<Integer>> validador = Validacoes.val_lista_algum_atende(
+                n -> avaliados.incrementAndGet() > 0 && n == 1, "algum", ConfiguracaoParalela.comLimiar(4_096));
+
+        assertTrue(validador.validar(Arrays.asList(numeros)).isEmpty());
+        assertTrue(avaliados.get() < numeros.length / 2, "Partes deveriam parar após o elemento ser encontrado");
+    }
+
+    @Test
+    void listaSemAcessoAleatorio_deveSerPercorridaSequencialmente() {
+        List<Integer> encadeada = new LinkedList<>(NUMEROS);
+
+        assertTrue(Validacoes.val_lista_max_maior_que(49_998, PARTES_PEQUENAS).validar(encadeada).isEmpty());
+    }
+
+    @Test
+    void configuracao_limiarInvalido_deveFalhar() {
+        assertThrows(IllegalArgumentException.class, () -> ConfiguracaoParalela.comLimiar(0));
+    }
+}
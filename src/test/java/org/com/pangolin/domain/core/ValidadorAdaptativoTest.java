@@ -0,0 +1,80 @@
+package org.com.pangolin.domain.core;
+
+import org.com.pangolin.carteira.core.validacoes.ErrosValidacao;
+import org.com.pangolin.carteira.core.validacoes.ValidadorAdaptativo;
+import org.com.pangolin.carteira.core.validacoes.Validacoes;
+import org.com.pangolin.carteira.core.validacoes.Validator;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ValidadorAdaptativoTest {
+
+    /** Regra cara que quase nunca reprova. */
+    private static final Validator<String> CARA = Validator.of(s -> {
+        long soma = 0;
+        for (int i = 0; i < 20_000; i++) {
+            soma += s.hashCode() ^ i;
+        }
+        return soma != 42;
+    }, "CARA", "cara");
+    private static final Validator<String> CURTA = Validator.of(s -> s.length() > 3, "CURTA", "curta");
+
+    @Test
+    void adaptativo_deveAnteciparRegraBarataQueReprovaMais() {
+        ValidadorAdaptativo<String> plano = CARA.and(CURTA).compilar().adaptativo(1, 20);
+
+        assertEquals(List.of(0, 1), plano.ordemEfetiva());
+        for (int i = 0; i < 100; i++) {
+            plano.validar(i % 2 == 0 ? "ab" : "abcdef");
+        }
+
+        assertEquals(List.of(1, 0), plano.ordemEfetiva());
+        assertEquals(CURTA.validar("ab"), plano.validar("ab"));
+        assertTrue(plano.validar("abcdef").isEmpty());
+    }
+
+    @Test
+    void ordemFixa_deveServirDeBarreira() {
+        ValidadorAdaptativo<String> plano = ValidadorAdaptativo.ordemFixa(CARA).and(CURTA).compilar().adaptativo(1, 5);
+
+        for (int i = 0; i < 50; i++) {
+            plano.validar("ab");
+        }
+
+        assertEquals(List.of(0, 1), plano.ordemEfetiva());
+    }
+
+    @Test
+    void regraDependente_deveVoltarParaAOrdemOriginal() {
+        ValidadorAdaptativo<String> plano = Validacoes.NAO_NULO.evolveTo(String.class)
+                .and(Validacoes.val_tam_min(5))
+                .compilar()
+                .adaptativo(1, 10);
+
+        for (int i = 0; i < 40; i++) {
+            plano.validar("ab");
+        }
+        List<ErrosValidacao> erros = plano.validar(null);
+
+        assertEquals(Validacoes.NAO_NULO.validar(null), erros);
+        assertEquals(List.of(0, 1), plano.ordemEfetiva());
+        for (int i = 0; i < 40; i++) {
+            plano.validar("ab");
+        }
+        assertEquals(List.of(0, 1), plano.ordemEfetiva());
+    }
+
+    @Test
+    void erroFatal_deveSerLancadoComoNoPlanoOriginal() {
+        Validator<String> fatal = Validator.of(s -> s.length() > 1, "FATAL", "fatal", true);
+        ValidadorAdaptativo<String> plano = CARA.and(fatal).compilar().adaptativo(1, 5);
+
+        for (int i = 0; i < 2; i++) {
+            assertThrows(Validator.ValidacaoException.class, () -> plano.validar("a"));
+        }
+        assertThrows(IllegalArgumentException.class, () -> CARA.compilar().adaptativo(0, 1));
+    }
+}
@@ -0,0 +1,159 @@
+package org.com.pangolin.domain.core;
+
+import org.com.pangolin.carteira.core.validacoes.CatalogoErros;
+import org.com.pangolin.carteira.core.validacoes.ErrosValidacao;
+import org.com.pangolin.carteira.core.validacoes.ExecucaoValidacao;
+import org.com.pangolin.carteira.core.validacoes.ModoAvaliacao;
+import org.com.pangolin.carteira.core.validacoes.ValidadorCompilado;
+import org.com.pangolin.carteira.core.validacoes.Validacoes;
+import org.com.pangolin.carteira.core.validacoes.Validator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ValidadorCompiladoTest {
+
+    private static final Validator<String> FATAL_CURTA =
+            Validator.of(s -> s.length() > 2, "CURTA", "Muito curta", true);
+    private static final Validator<String> SEM_ESPACO =
+            Validator.of(s -> !s.contains(" "), "ESPACO", "Contém espaço");
+    private static final Validator<String> FATAL_X =
+            Validator.of(s -> !s.startsWith("x"), "X", "Começa com x", true);
+    private static final Validator<String> SEM_DIGITO =
+            Validator.of(s -> s.chars().noneMatch(Character::isDigit), "DIGITO", "Contém dígito");
+
+    /**
+     * Reproduz o {@code and} aninhado original, usado como referência de comportamento.
+     */
+    private static <T> Validator<T> andLegado(Validator<T> esquerdo, Validator<? super T> direito) {
+        return value -> {
+            List<ErrosValidacao> todosErros = new ArrayList<>();
+            todosErros.addAll(esquerdo.validar(value));
+            todosErros.addAll(direito.validar(value));
+            Optional<ErrosValidacao> fatal = todosErros.stream()
+                    .filter(ErrosValidacao::deveLancarExcecao)
+                    .findFirst();
+            if (fatal.isPresent()) {
+                throw new Validator.ValidacaoException(String.valueOf(fatal.map(ErrosValidacao::toString)));
+            }
+            return todosErros;
+        };
+    }
+
+    private static Object executar(Validator<String> validador, String valor) {
+        try {
+            return validador.validar(valor);
+        } catch (Validator.ValidacaoException e) {
+            return "EXCECAO:" + e.getMessage();
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"abc", "a b", "x1", "x 1", "ab", "1", "xyz 9", "ok"})
+    void compilado_deveReproduzirAndEncadeadoAEsquerda(String valor) {
+        Validator<String> legado = andLegado(andLegado(andLegado(SEM_ESPACO, FATAL_CURTA), SEM_DIGITO), FATAL_X);
+        Validator<String> compilado = SEM_ESPACO.and(FATAL_CURTA).and(SEM_DIGITO).and(FATAL_X);
+
+        assertEquals(executar(legado, valor), executar(compilado, valor));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"abc", "a b", "x1", "x 1", "ab", "1", "xyz 9", "ok"})
+    void compilado_deveReproduzirAndAninhadoADireita(String valor) {
+        Validator<String> legado = andLegado(FATAL_X, andLegado(SEM_ESPACO, andLegado(FATAL_CURTA, SEM_DIGITO)));
+        Validator<String> compilado = FATAL_X.and(SEM_ESPACO.and(FATAL_CURTA.and(SEM_DIGITO)));
+
+        assertEquals(executar(legado, valor), executar(compilado, valor));
+    }
+
+    @Test
+    void compilado_deveAchatarTodasAsRegrasFolha() {
+        ValidadorCompilado<String> plano = SEM_ESPACO.and(FATAL_CURTA).and(SEM_DIGITO.and(FATAL_X)).compilar();
+
+        assertEquals(4, plano.quantidadeRegras());
+        assertSame(plano, plano.compilar(), "Compilar um plano deveria devolver a mesma instância");
+    }
+
+    @Test
+    void compilado_semErrosNaoDeveCriarLista() {
+        List<ErrosValidacao> erros = SEM_ESPACO.and(SEM_DIGITO).validar("abc");
+
+        assertSame(List.of(), erros, "Resultado válido deveria reutilizar a lista vazia compartilhada");
+    }
+
+    @Test
+    void valCompor_naoDeveLancarExcecaoParaErrosFatais() {
+        Validator<String> composto = Validacoes.val_compor(FATAL_CURTA, SEM_DIGITO);
+
+        List<ErrosValidacao> erros = composto.validar("1");
+
+        assertEquals(List.of("CURTA", "DIGITO"), erros.stream().map(ErrosValidacao::codigo).toList());
+    }
+
+    @Test
+    void primeiraFalha_deveIgnorarRegrasAposPrimeiroErro() {
+        ValidadorCompilado<String> plano = SEM_ESPACO.and(SEM_DIGITO).and(FATAL_X)
+                .compilar()
+                .comModo(ModoAvaliacao.PRIMEIRA_FALHA);
+
+        ExecucaoValidacao execucao = plano.avaliar("a b");
+
+        assertAll(
+                () -> assertEquals(List.of("ESPACO"), execucao.erros().stream().map(ErrosValidacao::codigo).toList()),
+                () -> assertEquals(1, execucao.regrasAvaliadas()),
+                () -> assertEquals(2, execucao.regrasIgnoradas()),
+                () -> assertNull(execucao.erroFatal())
+        );
+    }
+
+    @Test
+    void primeiraFatal_deveRegistrarErroFatalSemAvaliarORestante() {
+        ValidadorCompilado<String> plano = FATAL_X.and(SEM_ESPACO).and(SEM_DIGITO)
+                .compilar()
+                .comModo(ModoAvaliacao.PRIMEIRA_FATAL);
+
+        ExecucaoValidacao execucao = plano.avaliar("x 1");
+
+        assertAll(
+                () -> assertEquals("X", execucao.erroFatal().codigo()),
+                () -> assertEquals(1, execucao.regrasAvaliadas()),
+                () -> assertEquals(2, execucao.regrasIgnoradas()),
+                () -> assertThrows(Validator.ValidacaoException.class, () -> plano.validar("x 1"))
+        );
+    }
+
+    @Test
+    void andThenIfValid_deveAvaliarLadoDireitoSomenteQuandoEsquerdoForValido() {
+        ValidadorCompilado<String> plano = SEM_ESPACO.andThenIfValid(SEM_DIGITO.and(FATAL_CURTA)).compilar();
+
+        ExecucaoValidacao invalido = plano.avaliar("a 1");
+        ExecucaoValidacao valido = plano.avaliar("abc");
+
+        assertAll(
+                () -> assertEquals(List.of("ESPACO"), invalido.erros().stream().map(ErrosValidacao::codigo).toList()),
+                () -> assertEquals(2, invalido.regrasIgnoradas()),
+                () -> assertTrue(valido.valido()),
+                () -> assertEquals(3, valido.regrasAvaliadas())
+        );
+    }
+
+    @Test
+    void of_deveReutilizarErroCanonicoDoCatalogo() {
+        Validator<String> outraInstancia = Validator.of(s -> false, "ESPACO", "Contém espaço");
+
+        List<ErrosValidacao> primeira = SEM_ESPACO.validar("a b");
+
+        assertAll(
+                () -> assertSame(primeira, SEM_ESPACO.validar("c d")),
+                () -> assertSame(primeira.getFirst(), outraInstancia.validar("x").getFirst()),
+                () -> assertSame(primeira.getFirst(), CatalogoErros.obter("ESPACO", "Contém espaço", false)),
+                () -> assertThrows(NullPointerException.class, () -> Validator.of(s -> true, null, "msg"))
+        );
+    }
+}
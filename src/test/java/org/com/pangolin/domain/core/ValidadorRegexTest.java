@@ -0,0 +1,69 @@
+package org.com.pangolin.domain.core;
+
+import org.com.pangolin.carteira.core.validacoes.Validacoes;
+import org.com.pangolin.carteira.core.validacoes.Validator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.PatternSyntaxException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ValidadorRegexTest {
+
+    private static final List<String> ENTRADAS = List.of(
+            "", "a", "A", "abc", "ABC123", "WALLET-", "WALLET-0001", "WALLET-00\n01", "wallet-0001",
+            "123456", "12345", "1234567", "٣٤٥", "a_b-c", "-", "_", "ab cd", "x y9", "9\r",
+            "Zz09", "é", "abcdefghi");
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            ".*[0-9].*", ".*\\d.*", "WALLET-.*", "a.*", "[A-Z0-9]+", "[a-z]*", "\\d{6}", "\\d{5,}",
+            "[a-z_-]{2,8}", "[-a-c]+", "[0-9]{0,3}", "[a-z]+@[a-z]+", "(ab)+c?", "[^0-9]+", "\\w+"
+    })
+    void valRegex_deveConcordarComStringMatches(String regex) {
+        Validator<String> validador = Validacoes.val_regex(regex);
+
+        for (String entrada : ENTRADAS) {
+            assertEquals(entrada.matches(regex), validador.validar(entrada).isEmpty(),
+                    () -> "regex=" + regex + " entrada=" + entrada);
+        }
+    }
+
+    @Test
+    void valRegex_expressaoInvalida_deveFalharNaCriacao() {
+        assertThrows(PatternSyntaxException.class, () -> Validacoes.val_regex("[a-z"));
+    }
+
+    @Test
+    void valRegex_padraoCompilado_deveSerSeguroEntreThreads() throws Exception {
+        Validator<String> validador = Validacoes.val_regex("(ab)+c?");
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Boolean>> resultados = executor.invokeAll(List.of(
+                    () -> repetir(validador, "ababc", true),
+                    () -> repetir(validador, "abx", false),
+                    () -> repetir(validador, "ab", true),
+                    () -> repetir(validador, "c", false)));
+            for (Future<Boolean> resultado : resultados) {
+                assertTrue(resultado.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static boolean repetir(Validator<String> validador, String entrada, boolean esperado) {
+        for (int i = 0; i < 10_000; i++) {
+            if (validador.validar(entrada).isEmpty() != esperado) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,75 @@
+package org.com.pangolin.domain.core;
+
+import org.com.pangolin.carteira.core.validacoes.ErrosValidacao;
+import org.com.pangolin.carteira.core.validacoes.IntValidator;
+import org.com.pangolin.carteira.core.validacoes.LongValidator;
+import org.com.pangolin.carteira.core.validacoes.ValidacoesPrimitivas;
+import org.com.pangolin.carteira.core.validacoes.Validator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ValidadoresPrimitivosTest {
+
+    private static final IntValidator FATAL_NEGATIVO = IntValidator.of(v -> v >= 0, "NEG", "Negativo", true);
+    private static final IntValidator PAR = IntValidator.of(v -> v % 2 == 0, "PAR", "Deve ser par");
+    private static final IntValidator FATAL_GRANDE = IntValidator.of(v -> v < 100, "GRANDE", "Muito grande", true);
+
+    private static Object executar(Validator<Integer> validador, int valor) {
+        try {
+            return validador.validar(valor);
+        } catch (Validator.ValidacaoException e) {
+            return "EXCECAO:" + e.getMessage();
+        }
+    }
+
+    private static Object executarPrimitivo(IntValidator validador, int valor) {
+        try {
+            return validador.validar(valor);
+        } catch (Validator.ValidacaoException e) {
+            return "EXCECAO:" + e.getMessage();
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {4, 3, -3, -4, 101, 200, -101})
+    void andPrimitivo_deveReproduzirAndGenerico(int valor) {
+        Validator<Integer> generico = FATAL_NEGATIVO.comoValidator()
+                .and(PAR.comoValidator().and(FATAL_GRANDE.comoValidator()));
+        IntValidator primitivo = FATAL_NEGATIVO.and(PAR.and(FATAL_GRANDE));
+
+        assertEquals(executar(generico, valor), executarPrimitivo(primitivo, valor));
+        assertEquals(3, primitivo.compilar().quantidadeRegras());
+    }
+
+    @Test
+    void de_deveAdaptarValidadorGenerico() {
+        IntValidator adaptado = IntValidator.de(Validator.of(v -> v > 0, "POS", "Positivo"));
+
+        assertEquals(List.of("POS"), adaptado.validar(0).stream().map(ErrosValidacao::codigo).toList());
+        assertTrue(adaptado.validar(1).isEmpty());
+    }
+
+    @Test
+    void primeiroInvalido_devePercorrerArrayPrimitivo() {
+        LongValidator centavos = ValidacoesPrimitivas.CENTAVOS_MAIOR_QUE_ZERO
+                .and(ValidacoesPrimitivas.centavosNoIntervalo(new BigDecimal("0.01"), new BigDecimal("1000.00")));
+
+        long[] valores = ValidacoesPrimitivas.centavos(
+                new BigDecimal("10.50"), new BigDecimal("1000"), new BigDecimal("1000.01"));
+
+        assertArrayEquals(new long[]{1050, 100000, 100001}, valores);
+        assertEquals(2, centavos.primeiroInvalido(valores));
+        assertEquals(-1, centavos.primeiroInvalido(new long[]{1, 2, 3}));
+    }
+
+    @Test
+    void centavos_maisDeDuasCasas_deveFalhar() {
+        assertThrows(ArithmeticException.class, () -> ValidacoesPrimitivas.centavos(new BigDecimal("1.005")));
+    }
+}
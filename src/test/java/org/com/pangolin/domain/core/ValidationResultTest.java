@@ -1,7 +1,10 @@
 package org.com.pangolin.domain.core;
 
 import org.com.pangolin.carteira.core.validacoes.ErrosValidacao;
+import org.com.pangolin.carteira.core.validacoes.MensagemTemplate;
 import org.com.pangolin.carteira.core.validacoes.ResultadoValidacao;
+import org.com.pangolin.carteira.core.validacoes.Validacoes;
+import org.com.pangolin.carteira.core.validacoes.Validator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -152,6 +155,13 @@ class ValidationResultTest {
                 "Deveria lançar exceção para campo nulo ou vazio");
     }
 
+    @Test
+    void invalidComCodigo_ShouldThrowWhenFieldIsNull() {
+        assertThrows(NullPointerException.class,
+                () -> ResultadoValidacao.invalidar(null, "COD", "Mensagem"),
+                "Deveria lançar exceção para campo nulo");
+    }
+
     @Test
     void invalid_ShouldThrowWhenErrorIsNull() {
         //----------------------------  Arrange ----------------------//
@@ -361,6 +371,28 @@ class ValidationResultTest {
         assertTrue(filtered.valido());
         assertTrue(filtered.erros().isEmpty());
     }
+
+    @Test
+    void filtroPorCodigoDeErro_semCorrespondencia_deveDevolverResultadoAlteravel() {
+        ResultadoValidacao filtered = ResultadoValidacao.invalidar("campo", "A", "msg").filtroPorCodigoDeErro("X");
+
+        assertNotSame(ResultadoValidacao.VALIDO, filtered);
+        filtered.comErros(Map.of("campo", List.of(new ErrosValidacao("B", "msg", false))));
+        assertTrue(ResultadoValidacao.VALIDO.erros().isEmpty());
+    }
+
+    @Test
+    void combinar_copiaDoResultado_naoDeveAlterarOsLadosCombinados() {
+        ResultadoValidacao invalido = ResultadoValidacao.invalidar("campo", "A", "msg");
+        ResultadoValidacao combinado = invalido.combinar(ResultadoValidacao.VALIDO);
+        ResultadoValidacao copia = ResultadoValidacao.criar(combinado.valido(), combinado.erros());
+
+        copia.comErros(Map.of("outro", List.of(new ErrosValidacao("B", "msg", false))));
+
+        assertSame(invalido, combinado);
+        assertEquals(List.of("A"), invalido.todosCodigoDeErro());
+    }
+
     @Test
     void toSimpleErrorMap_returnsExpectedMap() {
         ErrosValidacao erro1 = new ErrosValidacao("CODE1", "Mensagem 1", false);
@@ -674,7 +706,100 @@ class ValidationResultTest {
 
         assertEquals(errosMap, resultado.erros());
     }
-}
 
+    @Test
+    void testcombinar_mesmoCampoComListasImutaveis_deveAcumularNaOrdem() {
+        ResultadoValidacao r1 = ResultadoValidacao.invalidar("campo", List.of(new ErrosValidacao("COD1", "msg1", false)));
+        ResultadoValidacao r2 = ResultadoValidacao.invalidar("outro", List.of(new ErrosValidacao("COD2", "msg2", false)));
+        ResultadoValidacao r3 = ResultadoValidacao.invalidar("campo", List.of(new ErrosValidacao("COD3", "msg3", false)));
+
+        ResultadoValidacao combinado = r1.combinar(r2).combinar(r3);
+
+        assertEquals(List.of("msg1", "msg3", "msg2"), combinado.todasMensagemErro());
+        assertEquals(2, combinado.errorPorCampo("campo").size());
+        assertEquals(1, r1.errorPorCampo("campo").size(), "Combinar não deveria alterar os operandos");
+    }
+
+    @Test
+    void testcombinar_ramificacao_naoDeveAfetarOutrosResultados() {
+        ResultadoValidacao base = ResultadoValidacao.invalidar("campo", "COD", "msg");
+        ResultadoValidacao ramoA = base.combinar(ResultadoValidacao.invalidar("a", "A", "msgA"));
+        ResultadoValidacao ramoB = base.combinar(ResultadoValidacao.invalidar("b", "B", "msgB"));
+
+        assertEquals(List.of("COD", "A"), ramoA.todosCodigoDeErro());
+        assertEquals(List.of("COD", "B"), ramoB.todosCodigoDeErro());
+        assertEquals(List.of("COD"), base.todosCodigoDeErro());
+    }
+
+    @Test
+    void testcombinar_muitosResultados_devePreservarTodosOsErros() {
+        ResultadoValidacao acumulado = ResultadoValidacao.validar();
+        for (int i = 0; i < 1_000; i++) {
+            acumulado = acumulado.combinar(ResultadoValidacao.invalidar("campo" + (i % 10), "COD" + i, "msg" + i));
+        }
+
+        assertEquals(1_000, acumulado.erroStream().count());
+        assertEquals(10, acumulado.erros().size());
+        assertEquals(100, acumulado.errorPorCampo("campo3").size());
+    }
+
+    @Test
+    void testIndices_consultasRepetidas_deveReutilizarResultadosCalculados() {
+        resultadoValidacao.comErros(sampleErrors);
+
+        assertSame(resultadoValidacao.erroPorCodigo(), resultadoValidacao.erroPorCodigo());
+        assertSame(resultadoValidacao.todosCodigoDeErro(), resultadoValidacao.todosCodigoDeErro());
+        assertSame(resultadoValidacao.toSimpleErrorMap(), resultadoValidacao.toSimpleErrorMap());
+        assertTrue(resultadoValidacao.contemCodigoDeErro("EMAIL_TAKEN"));
+
+        resultadoValidacao.comErros(Map.of("nome", List.of(new ErrosValidacao("NOME", "Nome inválido", false))));
+
+        assertFalse(resultadoValidacao.contemCodigoDeErro("EMAIL_TAKEN"));
+        assertEquals(List.of("NOME"), resultadoValidacao.todosCodigoDeErro());
+        assertEquals(Map.of("nome", "Nome inválido"), resultadoValidacao.toSimpleErrorMap());
+    }
 
+    @Test
+    void valido_compartilhadoNaoAceitaAlteracao() {
+        assertThrows(UnsupportedOperationException.class, () -> ResultadoValidacao.VALIDO.comErros(Map.of()));
+    }
+
+    @Test
+    void testErroComTemplate_deveSerIgualAoErroComMensagemPronta() {
+        List<ErrosValidacao> erros = Validacoes.<String>val_tam_min(3).validar("ab");
+        List<ErrosValidacao> esperado = List.of(
+                new ErrosValidacao(Validator.CODE_PADRAO, "Deve ter no mínimo 3 caracteres", false));
+
+        assertEquals(esperado, erros);
+        assertEquals(esperado.hashCode(), erros.hashCode());
+    }
 
+        @Test
+    void testMensagemTemplate_deveRenderizarSomenteNaLeituraEUmaVez() {
+        int[] renderizacoes = {0};
+        Object argumento = new Object() {
+            @Override
+            public String toString() {
+                renderizacoes[0]++;
+                return "10";
+            }
+        };
+        Validator<String> validador = Validator.of(s -> false, "TAM", MensagemTemplate.de("Mínimo %s", argumento), false);
+
+        ResultadoValidacao resultado = ResultadoValidacao.invalidar("campo", validador.validar("a"))
+                .combinar(ResultadoValidacao.invalidar("outro", validador.validar("b")));
+
+        assertEquals(0, renderizacoes[0], "Criar e acumular erros não deveria formatar a mensagem");
+        assertEquals(List.of("Mínimo 10", "Mínimo 10"), resultado.todasMensagemErro());
+        assertEquals(List.of("TAM: Mínimo 10", "TAM: Mínimo 10"),
+                resultado.mensagemFormatadas(e -> e.codigo() + ": " + e.menssagem()));
+        assertEquals(1, renderizacoes[0]);
+
+        ErrosValidacao esperado = new ErrosValidacao("TAM", "Mínimo 10", false);
+        ErrosValidacao erro = validador.validar("c").getFirst();
+        assertEquals(esperado, erro);
+        assertEquals(erro, esperado);
+        assertEquals(esperado.hashCode(), erro.hashCode());
+        assertEquals(1, renderizacoes[0], "Igualdade e hash deveriam reaproveitar o texto já renderizado");
+    }
+}